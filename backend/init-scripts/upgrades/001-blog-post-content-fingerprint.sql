@@ -0,0 +1,3 @@
+-- Content fingerprint used to report near-duplicate posts.
+-- Needed before deploying with ddl-auto=validate; rows without a fingerprint are backfilled on startup.
+ALTER TABLE blog_posts ADD COLUMN IF NOT EXISTS content_fingerprint BIGINT;
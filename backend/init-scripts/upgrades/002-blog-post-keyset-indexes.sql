@@ -0,0 +1,5 @@
+-- Keyset pagination of post listings, with and without the status filter.
+-- Both new indexes lead with created_at, so they replace the old single-column index.
+CREATE INDEX IF NOT EXISTS idx_blog_post_status_created_at_id ON blog_posts (status, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_blog_post_created_at_id ON blog_posts (created_at, id);
+DROP INDEX IF EXISTS idx_blog_post_created_at;
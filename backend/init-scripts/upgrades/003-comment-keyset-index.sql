@@ -0,0 +1,2 @@
+-- Keyset pagination and polling of a post's comments; the comments table had no index before.
+CREATE INDEX IF NOT EXISTS idx_comment_post_created_at_id ON comments (blog_post_id, created_at, id);
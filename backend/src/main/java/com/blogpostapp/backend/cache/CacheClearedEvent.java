@@ -0,0 +1,5 @@
+package com.blogpostapp.backend.cache;
+
+// Published when a whole cache is cleared rather than evicted key by key
+public record CacheClearedEvent(String cacheName) {
+}
@@ -0,0 +1,93 @@
+package com.blogpostapp.backend.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheProperties {
+    
+    // Shared pool for background refreshes of soft-expired entries
+    private int refreshThreads = 2;
+    private int refreshQueueCapacity = 100;
+    
+    // Keyed by cache name, e.g. app.cache.specs.postBySlug.max-weight-bytes=33554432
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+    
+    private Warmup warmup = new Warmup();
+    
+    public Map<String, Spec> getSpecs() { return specs; }
+    public void setSpecs(Map<String, Spec> specs) { this.specs = specs; }
+    
+    public Warmup getWarmup() { return warmup; }
+    public void setWarmup(Warmup warmup) { this.warmup = warmup; }
+    
+    public int getRefreshThreads() { return refreshThreads; }
+    public void setRefreshThreads(int refreshThreads) { this.refreshThreads = refreshThreads; }
+    
+    public int getRefreshQueueCapacity() { return refreshQueueCapacity; }
+    public void setRefreshQueueCapacity(int refreshQueueCapacity) { this.refreshQueueCapacity = refreshQueueCapacity; }
+    
+    public Spec getSpec(String cacheName) {
+        return specs.getOrDefault(cacheName, new Spec());
+    }
+    
+    public static class Spec {
+        // Upper bound on the estimated size of all entries, see CacheWeigher
+        private long maxWeightBytes = 8 * 1024 * 1024;
+        // Hard TTL: after it callers block on a reload
+        private Duration ttl = Duration.ofMinutes(10);
+        // Optional soft TTL: older entries are served as-is while they refresh in the background
+        private Duration softTtl;
+        // Expired values kept aside for lookups stuck behind a slow load
+        private long staleMaxWeightBytes = 2 * 1024 * 1024;
+        // How long a lookup waits on another request's load before falling back to a stale value
+        private Duration loadTimeout = Duration.ofSeconds(1);
+        
+        public long getMaxWeightBytes() { return maxWeightBytes; }
+        public void setMaxWeightBytes(long maxWeightBytes) { this.maxWeightBytes = maxWeightBytes; }
+        
+        public Duration getTtl() { return ttl; }
+        public void setTtl(Duration ttl) { this.ttl = ttl; }
+        
+        public Duration getSoftTtl() { return softTtl; }
+        public void setSoftTtl(Duration softTtl) { this.softTtl = softTtl; }
+        
+        public long getStaleMaxWeightBytes() { return staleMaxWeightBytes; }
+        public void setStaleMaxWeightBytes(long staleMaxWeightBytes) { this.staleMaxWeightBytes = staleMaxWeightBytes; }
+        
+        public Duration getLoadTimeout() { return loadTimeout; }
+        public void setLoadTimeout(Duration loadTimeout) { this.loadTimeout = loadTimeout; }
+    }
+    
+    public static class Warmup {
+        private boolean enabled = true;
+        // First N pages of the published listing, at the page size the UI requests
+        private int publishedPages = 3;
+        private int pageSize = 10;
+        // Most viewed published posts to preload into postBySlug
+        private int topSlugs = 20;
+        private int concurrency = 4;
+        // Startup never waits longer than this for the warm-up
+        private Duration timeout = Duration.ofSeconds(30);
+        
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+        
+        public int getPublishedPages() { return publishedPages; }
+        public void setPublishedPages(int publishedPages) { this.publishedPages = publishedPages; }
+        
+        public int getPageSize() { return pageSize; }
+        public void setPageSize(int pageSize) { this.pageSize = pageSize; }
+        
+        public int getTopSlugs() { return topSlugs; }
+        public void setTopSlugs(int topSlugs) { this.topSlugs = topSlugs; }
+        
+        public int getConcurrency() { return concurrency; }
+        public void setConcurrency(int concurrency) { this.concurrency = concurrency; }
+        
+        public Duration getTimeout() { return timeout; }
+        public void setTimeout(Duration timeout) { this.timeout = timeout; }
+    }
+}
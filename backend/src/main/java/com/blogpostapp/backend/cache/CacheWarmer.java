@@ -0,0 +1,161 @@
+package com.blogpostapp.backend.cache;
+
+import com.blogpostapp.backend.config.CacheConfig;
+import com.blogpostapp.backend.entity.BlogPost;
+import com.blogpostapp.backend.repository.BlogPostRepository;
+import com.blogpostapp.backend.service.interfaces.BlogPostService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.actuate.info.Info;
+import org.springframework.boot.actuate.info.InfoContributor;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Preloads the hot cache entries. Runs as the last ApplicationRunner, so the readiness state only
+// switches to ACCEPTING_TRAFFIC once it has finished, and again whenever one of the caches is cleared.
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class CacheWarmer implements ApplicationRunner, InfoContributor {
+    
+    private static final Logger logger = LoggerFactory.getLogger(CacheWarmer.class);
+    
+    private final BlogPostService blogPostService;
+    private final BlogPostRepository blogPostRepository;
+    private final CacheProperties.Warmup warmup;
+    private final AtomicLong lastDurationMs = new AtomicLong();
+    private final AtomicLong lastEntriesLoaded = new AtomicLong();
+    private final Counter runs;
+    private volatile Instant lastCompletedAt;
+    
+    // Clears arriving while a re-warm is queued are folded into it
+    private final Set<String> pendingCaches = ConcurrentHashMap.newKeySet();
+    private final ExecutorService rewarmExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("cache-rewarm").daemon(true).factory());
+    
+    @Autowired
+    public CacheWarmer(BlogPostService blogPostService, BlogPostRepository blogPostRepository,
+                       CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        this.blogPostService = blogPostService;
+        this.blogPostRepository = blogPostRepository;
+        this.warmup = cacheProperties.getWarmup();
+        this.runs = Counter.builder("cache.warmup.runs")
+                .description("Completed cache warm-up runs")
+                .register(meterRegistry);
+        TimeGauge.builder("cache.warmup.duration", lastDurationMs, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("Duration of the last cache warm-up")
+                .register(meterRegistry);
+        Gauge.builder("cache.warmup.entries", lastEntriesLoaded, AtomicLong::get)
+                .description("Entries loaded by the last cache warm-up")
+                .register(meterRegistry);
+    }
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        if (warmup.isEnabled()) {
+            warmUp(List.of(CacheConfig.PUBLISHED_POSTS, CacheConfig.POST_BY_SLUG, CacheConfig.ALL_TAGS));
+        }
+    }
+    
+    @EventListener
+    public void onCacheCleared(CacheClearedEvent event) {
+        if (warmup.isEnabled() && pendingCaches.add(event.cacheName())) {
+            rewarmExecutor.execute(() -> {
+                List<String> caches = new ArrayList<>(pendingCaches);
+                pendingCaches.removeAll(caches);
+                warmUp(caches);
+            });
+        }
+    }
+    
+    public int warmUp(Collection<String> cacheNames) {
+        long start = System.nanoTime();
+        List<Callable<Object>> loads = new ArrayList<>();
+        
+        if (cacheNames.contains(CacheConfig.PUBLISHED_POSTS)) {
+            for (int page = 0; page < warmup.getPublishedPages(); page++) {
+                PageRequest pageable = PageRequest.of(page, warmup.getPageSize(), Sort.by("createdAt").descending());
+                loads.add(() -> blogPostService.getPublishedPosts(pageable));
+            }
+        }
+        if (cacheNames.contains(CacheConfig.POST_BY_SLUG) && warmup.getTopSlugs() > 0) {
+            for (String slug : blogPostRepository.findMostViewedSlugs(BlogPost.PostStatus.PUBLISHED,
+                    PageRequest.of(0, warmup.getTopSlugs()))) {
+                loads.add(() -> blogPostService.getPostBySlug(slug));
+            }
+        }
+        if (cacheNames.contains(CacheConfig.ALL_TAGS)) {
+            loads.add(blogPostService::getAllTags);
+        }
+        
+        int loaded = 0;
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, warmup.getConcurrency()),
+                Thread.ofPlatform().name("cache-warmup-", 0).daemon(true).factory());
+        try {
+            // Loads still running at the deadline are cancelled; the caches fill on demand instead
+            for (Future<Object> result : pool.invokeAll(loads, warmup.getTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                try {
+                    result.get();
+                    loaded++;
+                } catch (ExecutionException | CancellationException ex) {
+                    logger.debug("Cache warm-up load failed", ex);
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // close() would wait for loads that ignore cancellation, holding up startup past the deadline
+            pool.shutdownNow();
+        }
+        
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        lastDurationMs.set(durationMs);
+        lastEntriesLoaded.set(loaded);
+        lastCompletedAt = Instant.now();
+        runs.increment();
+        logger.info("Cache warm-up of {} loaded {}/{} entries in {} ms", cacheNames, loaded, loads.size(), durationMs);
+        return loaded;
+    }
+    
+    @Override
+    public void contribute(Info.Builder builder) {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("runs", (long) runs.count());
+        details.put("lastDurationMs", lastDurationMs.get());
+        details.put("lastEntriesLoaded", lastEntriesLoaded.get());
+        details.put("lastCompletedAt", lastCompletedAt);
+        builder.withDetail("cacheWarmup", details);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        rewarmExecutor.shutdownNow();
+    }
+}
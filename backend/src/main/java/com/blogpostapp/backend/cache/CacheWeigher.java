@@ -0,0 +1,71 @@
+package com.blogpostapp.backend.cache;
+
+import com.blogpostapp.backend.dto.BlogPostDto;
+import com.blogpostapp.backend.dto.BlogPostSummaryDto;
+import org.springframework.data.domain.Page;
+import java.util.Collection;
+import java.util.Optional;
+
+// Approximates the retained heap of cached values in bytes. Only needs to be
+// proportional to real usage so that long posts count for more than short ones.
+public final class CacheWeigher {
+    
+    private static final int OBJECT_OVERHEAD = 16;
+    private static final int REFERENCE_SIZE = 8;
+    
+    private CacheWeigher() {}
+    
+    public static int weigh(Object key, Object value) {
+        long weight = estimate(key) + estimate(value);
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1, weight));
+    }
+    
+    static long estimate(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String string) {
+            return 40 + 2L * string.length();
+        }
+        if (value instanceof BlogPostDto dto) {
+            return estimate(dto);
+        }
+        if (value instanceof BlogPostSummaryDto summary) {
+            return estimate(summary);
+        }
+        if (value instanceof Page<?> page) {
+            return 64 + estimate(page.getContent());
+        }
+        if (value instanceof Optional<?> optional) {
+            return OBJECT_OVERHEAD + estimate(optional.orElse(null));
+        }
+        if (value instanceof Collection<?> collection) {
+            long total = 32;
+            for (Object element : collection) {
+                total += REFERENCE_SIZE + estimate(element);
+            }
+            return total;
+        }
+        return 64;
+    }
+    
+    private static long estimate(BlogPostDto dto) {
+        return 128
+                + estimate(dto.getTitle())
+                + estimate(dto.getSlug())
+                + estimate(dto.getContent())
+                + estimate(dto.getAuthor())
+                + estimate(dto.getSummary())
+                + estimate(dto.getTags());
+    }
+    
+    private static long estimate(BlogPostSummaryDto summary) {
+        return 128
+                + estimate(summary.getTitle())
+                + estimate(summary.getSlug())
+                + estimate(summary.getAuthor())
+                + estimate(summary.getSummary())
+                + estimate(summary.getExcerpt())
+                + estimate(summary.getTags());
+    }
+}
@@ -0,0 +1,274 @@
+package com.blogpostapp.backend.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.caffeine.CaffeineCache;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+// Caffeine-backed cache whose synchronized lookups (@Cacheable(sync = true)) share a single in-flight
+// load per key. Followers that wait longer than the load timeout get the last expired or size-evicted
+// value instead, if one is still around.
+//
+// When a soft TTL is configured, entries older than it (or explicitly marked stale) are still served
+// immediately while one background refresh reloads them; callers only block once the hard TTL expired.
+public class CoalescingCaffeineCache extends CaffeineCache {
+    
+    private final ConcurrentHashMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Object, Long> staleMarks = new ConcurrentHashMap<>();
+    private final AtomicLong markSequence = new AtomicLong();
+    // Bumped on every eviction so loads that started before it do not re-cache old data
+    private final AtomicLong evictions = new AtomicLong();
+    private final Cache<Object, Object> staleValues;
+    private final Duration loadTimeout;
+    private final Duration softTtl;
+    private final Executor refreshExecutor;
+    private final Counter coalescedLoads;
+    private final Counter staleServed;
+    private final Counter refreshSuccess;
+    private final Counter refreshFailure;
+    private final Counter refreshRejected;
+    private volatile Consumer<String> clearListener;
+    
+    private CoalescingCaffeineCache(String name, Cache<Object, Object> cache, Cache<Object, Object> staleValues,
+                                    CacheProperties.Spec spec, Executor refreshExecutor, MeterRegistry meterRegistry) {
+        super(name, cache, true);
+        this.staleValues = staleValues;
+        this.loadTimeout = spec.getLoadTimeout();
+        this.softTtl = spec.getSoftTtl();
+        this.refreshExecutor = refreshExecutor;
+        this.coalescedLoads = Counter.builder("cache.loads.coalesced")
+                .description("Cache misses that joined an in-flight load instead of querying the database")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.staleServed = Counter.builder("cache.stale.served")
+                .description("Waiting lookups answered with a stale value after the load timeout")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.refreshSuccess = refreshCounter(name, "success", meterRegistry);
+        this.refreshFailure = refreshCounter(name, "failure", meterRegistry);
+        this.refreshRejected = refreshCounter(name, "rejected", meterRegistry);
+    }
+    
+    public static CoalescingCaffeineCache create(String name, CacheProperties.Spec spec,
+                                                 Executor refreshExecutor, MeterRegistry meterRegistry) {
+        Cache<Object, Object> staleValues = Caffeine.newBuilder()
+                .maximumWeight(spec.getStaleMaxWeightBytes())
+                .weigher(CacheWeigher::weigh)
+                .build();
+        Cache<Object, Object> cache = Caffeine.newBuilder()
+                .maximumWeight(spec.getMaxWeightBytes())
+                .weigher(CacheWeigher::weigh)
+                .expireAfterWrite(spec.getTtl())
+                .recordStats()
+                // Explicit evictions mean the data changed, so only expired or size-evicted values stay usable
+                .removalListener((Object key, Object value, RemovalCause cause) -> {
+                    if (key != null && value != null && (cause == RemovalCause.EXPIRED || cause == RemovalCause.SIZE)) {
+                        staleValues.put(key, value);
+                    }
+                })
+                .build();
+        return new CoalescingCaffeineCache(name, cache, staleValues, spec, refreshExecutor, meterRegistry);
+    }
+    
+    private static Counter refreshCounter(String name, String result, MeterRegistry meterRegistry) {
+        return Counter.builder("cache.refreshes")
+                .description("Background refreshes of soft-expired entries")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            if (isSoftExpired(key)) {
+                refreshAsync(key, valueLoader);
+            }
+            return (T) cached.get();
+        }
+        
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, load);
+        if (existing != null) {
+            coalescedLoads.increment();
+            return (T) await(key, existing, valueLoader);
+        }
+        
+        try {
+            // Another leader may have finished between our miss and claiming the key. Read quietly so
+            // the lookup still counts as a single miss in the cache stats
+            Object stored = getNativeCache().policy().getIfPresentQuietly(key);
+            T value;
+            if (stored != null) {
+                value = (T) fromStoreValue(stored);
+            } else {
+                long evictionsBefore = evictions.get();
+                value = valueLoader.call();
+                putIfNotEvictedSince(key, value, evictionsBefore);
+                staleMarks.remove(key);
+            }
+            load.complete(value);
+            return value;
+        } catch (Throwable ex) {
+            load.completeExceptionally(ex);
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        } finally {
+            inFlight.remove(key, load);
+        }
+    }
+    
+    // Keeps serving the entry but reloads it in the background on next access
+    public void markStale(Object key) {
+        if (getNativeCache().asMap().containsKey(key)) {
+            staleMarks.put(key, markSequence.incrementAndGet());
+        }
+    }
+    
+    @Override
+    public void evict(Object key) {
+        evictions.incrementAndGet();
+        super.evict(key);
+        staleValues.invalidate(key);
+        staleMarks.remove(key);
+    }
+    
+    @Override
+    public boolean evictIfPresent(Object key) {
+        evictions.incrementAndGet();
+        staleValues.invalidate(key);
+        staleMarks.remove(key);
+        return super.evictIfPresent(key);
+    }
+    
+    @Override
+    public void clear() {
+        evictions.incrementAndGet();
+        super.clear();
+        staleValues.invalidateAll();
+        staleMarks.clear();
+        notifyCleared();
+    }
+    
+    @Override
+    public boolean invalidate() {
+        evictions.incrementAndGet();
+        staleValues.invalidateAll();
+        staleMarks.clear();
+        boolean invalidated = super.invalidate();
+        notifyCleared();
+        return invalidated;
+    }
+    
+    // Called with the cache name whenever the whole cache is dropped
+    public void setClearListener(Consumer<String> clearListener) {
+        this.clearListener = clearListener;
+    }
+    
+    public boolean isServingStale() {
+        return refreshExecutor != null && softTtl != null;
+    }
+    
+    public long getInFlightLoads() {
+        return inFlight.size();
+    }
+    
+    private boolean isSoftExpired(Object key) {
+        if (refreshExecutor == null) {
+            return false;
+        }
+        if (staleMarks.containsKey(key)) {
+            return true;
+        }
+        if (softTtl == null) {
+            return false;
+        }
+        OptionalLong age = getNativeCache().policy().expireAfterWrite()
+                .map(expiration -> expiration.ageOf(key, TimeUnit.MILLISECONDS))
+                .orElse(OptionalLong.empty());
+        return age.isPresent() && age.getAsLong() >= softTtl.toMillis();
+    }
+    
+    private void refreshAsync(Object key, Callable<?> valueLoader) {
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, load) != null) {
+            return;
+        }
+        
+        Long mark = staleMarks.get(key);
+        long evictionsBefore = evictions.get();
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    Object value = valueLoader.call();
+                    putIfNotEvictedSince(key, value, evictionsBefore);
+                    if (mark != null) {
+                        // A newer mark means another write happened during the refresh
+                        staleMarks.remove(key, mark);
+                    }
+                    refreshSuccess.increment();
+                    load.complete(value);
+                } catch (Throwable ex) {
+                    refreshFailure.increment();
+                    load.completeExceptionally(ex);
+                } finally {
+                    inFlight.remove(key, load);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            // Queue full: keep serving the stale value, a later request retries the refresh
+            refreshRejected.increment();
+            inFlight.remove(key, load);
+            load.completeExceptionally(ex);
+        }
+    }
+    
+    private void notifyCleared() {
+        Consumer<String> listener = clearListener;
+        if (listener != null) {
+            listener.accept(getName());
+        }
+    }
+    
+    // Checks and writes under the entry's lock: evictions bump the counter before removing, so an
+    // eviction either shows up in the check or waits for the write and removes it afterwards
+    private void putIfNotEvictedSince(Object key, Object value, long evictionsBefore) {
+        getNativeCache().asMap().compute(key, (k, current) ->
+                evictions.get() == evictionsBefore ? toStoreValue(value) : current);
+    }
+    
+    private Object await(Object key, CompletableFuture<Object> load, Callable<?> valueLoader) {
+        try {
+            try {
+                return load.get(loadTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException ex) {
+                Object stale = staleValues.getIfPresent(key);
+                if (stale != null) {
+                    staleServed.increment();
+                    return fromStoreValue(stale);
+                }
+                return load.get();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        } catch (ExecutionException ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.blogpostapp.backend.cache;
+
+import com.blogpostapp.backend.config.CacheConfig;
+import com.blogpostapp.backend.entity.BlogPost;
+import com.blogpostapp.backend.repository.BlogPostRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+
+// Evicts only the cache entries a single post write can affect, instead of clearing whole caches
+@Component
+public class PostCacheInvalidator {
+    
+    private final CacheManager cacheManager;
+    private final BlogPostRepository blogPostRepository;
+    
+    @Autowired
+    public PostCacheInvalidator(CacheManager cacheManager, BlogPostRepository blogPostRepository) {
+        this.cacheManager = cacheManager;
+        this.blogPostRepository = blogPostRepository;
+    }
+    
+    // before is null for creates, after is null for deletes
+    public void postChanged(PostSnapshot before, PostSnapshot after) {
+        // Evicting before commit would let a concurrent read re-cache the old row
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(before, after);
+                }
+            });
+        } else {
+            invalidate(before, after);
+        }
+    }
+    
+    void invalidate(PostSnapshot before, PostSnapshot after) {
+        Cache slugCache = cacheManager.getCache(CacheConfig.POST_BY_SLUG);
+        if (slugCache != null) {
+            // Misses are cached as Optional.empty, so the new slug has to go as well
+            if (before != null && before.slug() != null) {
+                slugCache.evict(before.slug());
+            }
+            if (after != null && after.slug() != null) {
+                slugCache.evict(after.slug());
+            }
+        }
+        
+        boolean wasPublished = before != null && before.isPublished();
+        boolean isPublished = after != null && after.isPublished();
+        if (!wasPublished && !isPublished) {
+            return;
+        }
+        
+        LocalDateTime createdAt = after != null ? after.createdAt() : before.createdAt();
+        if (wasPublished && isPublished) {
+            evictPublishedPages(createdAt, false);
+        } else {
+            evictPublishedPages(createdAt, true);
+        }
+        
+        if (wasPublished != isPublished || !Objects.equals(before.tags(), after.tags())) {
+            Cache tagsCache = cacheManager.getCache(CacheConfig.ALL_TAGS);
+            if (tagsCache != null) {
+                tagsCache.clear();
+            }
+        }
+    }
+    
+    // Published pages are ordered by createdAt desc, so a post's position only depends on how many
+    // published posts are newer. An in-place edit touches the page(s) holding that position; adding
+    // or removing a post also shifts every later page, while earlier pages only need a new total.
+    private void evictPublishedPages(LocalDateTime createdAt, boolean shifted) {
+        Cache cache = cacheManager.getCache(CacheConfig.PUBLISHED_POSTS);
+        if (cache == null) {
+            return;
+        }
+        if (createdAt == null || !(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)) {
+            cache.clear();
+            return;
+        }
+        
+        @SuppressWarnings("unchecked")
+        ConcurrentMap<Object, Object> entries = ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) nativeCache).asMap();
+        if (entries.isEmpty()) {
+            return;
+        }
+        
+        // Posts sharing the same createdAt may sort either way, so take the whole tie range
+        long firstPosition = blogPostRepository.countByStatusAndCreatedAtAfter(BlogPost.PostStatus.PUBLISHED, createdAt);
+        long lastPosition = blogPostRepository.countByStatusAndCreatedAtGreaterThanEqual(BlogPost.PostStatus.PUBLISHED, createdAt);
+        long total = shifted ? blogPostRepository.countByStatus(BlogPost.PostStatus.PUBLISHED) : -1;
+        
+        for (Object key : entries.keySet()) {
+            long[] pageAndSize = parsePageKey(key);
+            if (pageAndSize == null) {
+                cache.evict(key);
+                continue;
+            }
+            long pageStart = pageAndSize[0] * pageAndSize[1];
+            long pageEnd = pageStart + pageAndSize[1];
+            boolean overlaps = pageStart <= lastPosition && firstPosition < pageEnd;
+            boolean after = pageStart > lastPosition;
+            
+            if (overlaps || (shifted && after)) {
+                if (cache instanceof CoalescingCaffeineCache swr && swr.isServingStale()) {
+                    // Keep serving the old page while it refreshes in the background
+                    swr.markStale(key);
+                } else {
+                    cache.evict(key);
+                }
+            } else if (shifted) {
+                // Content before the post is unchanged; only the total moved
+                entries.computeIfPresent(key, (k, value) -> value instanceof Page<?> page
+                        ? new PageImpl<>(page.getContent(), page.getPageable(), total)
+                        : null);
+            }
+        }
+    }
+    
+    // Keys look like "<pageNumber>-<pageSize>", see BlogPostServiceImpl.getPublishedPosts
+    private long[] parsePageKey(Object key) {
+        String[] parts = String.valueOf(key).split("-");
+        if (parts.length != 2) {
+            return null;
+        }
+        try {
+            long size = Long.parseLong(parts[1]);
+            return size > 0 ? new long[]{Long.parseLong(parts[0]), size} : null;
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+}
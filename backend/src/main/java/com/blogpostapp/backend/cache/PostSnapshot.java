@@ -0,0 +1,20 @@
+package com.blogpostapp.backend.cache;
+
+import com.blogpostapp.backend.entity.BlogPost;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+// The cache-relevant state of a post, captured before and after a write
+public record PostSnapshot(Long id, String slug, BlogPost.PostStatus status,
+                           LocalDateTime createdAt, Set<String> tags) {
+    
+    public static PostSnapshot of(BlogPost post) {
+        return new PostSnapshot(post.getId(), post.getSlug(), post.getStatus(), post.getCreatedAt(),
+                post.getTags() != null ? new HashSet<>(post.getTags()) : new HashSet<>());
+    }
+    
+    public boolean isPublished() {
+        return status == BlogPost.PostStatus.PUBLISHED;
+    }
+}
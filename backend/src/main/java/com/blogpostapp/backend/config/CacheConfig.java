@@ -1,17 +1,62 @@
 package com.blogpostapp.backend.config;
 
+import com.blogpostapp.backend.cache.CacheClearedEvent;
+import com.blogpostapp.backend.cache.CacheProperties;
+import com.blogpostapp.backend.cache.CoalescingCaffeineCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Configuration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
 public class CacheConfig {
     
+    public static final String PUBLISHED_POSTS = "publishedPosts";
+    public static final String POST_BY_SLUG = "postBySlug";
+    public static final String ALL_TAGS = "allTags";
+    public static final String ANALYTICS_SUMMARY = "analyticsSummary";
+    
+    private static final List<String> CACHE_NAMES = List.of(PUBLISHED_POSTS, POST_BY_SLUG, ALL_TAGS, ANALYTICS_SUMMARY);
+    
+    // Owned here rather than exposed as an Executor bean, which would replace Boot's applicationTaskExecutor
+    private ThreadPoolExecutor refreshExecutor;
+    
     @Bean
-    public CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager("publishedPosts", "postBySlug", "allTags");
+    public CacheManager cacheManager(CacheProperties cacheProperties, MeterRegistry meterRegistry,
+                                     ApplicationEventPublisher eventPublisher) {
+        refreshExecutor = new ThreadPoolExecutor(
+                cacheProperties.getRefreshThreads(), cacheProperties.getRefreshThreads(),
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(cacheProperties.getRefreshQueueCapacity()),
+                Thread.ofPlatform().name("cache-refresh-", 0).daemon(true).factory());
+        refreshExecutor.allowCoreThreadTimeOut(true);
+        
+        // Only the caches declared here exist; unknown names fail fast instead of growing unbounded
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        List<CoalescingCaffeineCache> caches = CACHE_NAMES.stream()
+                .map(name -> CoalescingCaffeineCache.create(name, cacheProperties.getSpec(name), refreshExecutor, meterRegistry))
+                .toList();
+        // Lets CacheWarmer refill a cache after it has been dropped wholesale
+        caches.forEach(cache -> cache.setClearListener(name -> eventPublisher.publishEvent(new CacheClearedEvent(name))));
+        cacheManager.setCaches(caches);
+        return cacheManager;
+    }
+    
+    @PreDestroy
+    public void shutdownRefreshExecutor() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
     }
 }
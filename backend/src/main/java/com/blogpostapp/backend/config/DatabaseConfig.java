@@ -4,6 +4,8 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import com.blogpostapp.backend.entity.BlogPost;
 import com.blogpostapp.backend.repository.BlogPostRepository;
 import java.util.Set;
@@ -11,8 +13,10 @@ import java.util.Set;
 @Configuration
 public class DatabaseConfig {
     
+    // Runs first so the search index and cache warm-up see the sample posts
     @Bean
     @Profile("!test")
+    @Order(Ordered.HIGHEST_PRECEDENCE)
     public CommandLineRunner initData(BlogPostRepository blogPostRepository) {
         return args -> {
             // Create sample blog posts for development
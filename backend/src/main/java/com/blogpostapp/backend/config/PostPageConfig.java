@@ -0,0 +1,9 @@
+package com.blogpostapp.backend.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(PostPageProperties.class)
+public class PostPageConfig {
+}
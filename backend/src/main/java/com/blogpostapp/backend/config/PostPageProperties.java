@@ -0,0 +1,19 @@
+package com.blogpostapp.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "app.post-page")
+public class PostPageProperties {
+    
+    // Budget for the whole fan-out; parts not back by then are left out of the response
+    private Duration deadline = Duration.ofMillis(300);
+    // Size of the first comment slice
+    private int comments = 10;
+    
+    public Duration getDeadline() { return deadline; }
+    public void setDeadline(Duration deadline) { this.deadline = deadline; }
+    
+    public int getComments() { return comments; }
+    public void setComments(int comments) { this.comments = comments; }
+}
@@ -0,0 +1,10 @@
+package com.blogpostapp.backend.config;
+
+import com.blogpostapp.backend.search.SearchProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(SearchProperties.class)
+public class SearchConfig {
+}
@@ -2,6 +2,7 @@ package com.blogpostapp.backend.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -28,8 +29,16 @@ public class SecurityConfig {
                 // Public endpoints
                 .requestMatchers("/api/v1/posts/**").permitAll()
                 .requestMatchers("/api/v1/comments/**").permitAll()
+                .requestMatchers("/api/v1/suggest/**").permitAll()
+                .requestMatchers("/api/v1/analytics/**").permitAll()
+                .requestMatchers("/api/v1/tags/**").permitAll()
+                .requestMatchers("/api/v1/authors/**").permitAll()
                 .requestMatchers("/actuator/health").permitAll()
                 .requestMatchers("/actuator/info").permitAll()
+                .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
+                // Actuator write operations, e.g. resetting the search query stats
+                .requestMatchers(HttpMethod.POST, "/actuator/**").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.DELETE, "/actuator/**").hasRole("ADMIN")
                 // Swagger UI (only in dev/test)
                 .requestMatchers("/v3/api-docs/**").permitAll()
                 .requestMatchers("/swagger-ui/**").permitAll()
@@ -0,0 +1,42 @@
+package com.blogpostapp.backend.controller;
+
+import com.blogpostapp.backend.dto.AdminStatsDto;
+import com.blogpostapp.backend.dto.NearDuplicateDto;
+import com.blogpostapp.backend.service.interfaces.AdminService;
+import com.blogpostapp.backend.service.interfaces.BlogPostService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin")
+@Tag(name = "Administration", description = "Dashboard and content moderation API, admin only")
+public class AdminController {
+    
+    private final BlogPostService blogPostService;
+    private final AdminService adminService;
+    
+    @Autowired
+    public AdminController(BlogPostService blogPostService, AdminService adminService) {
+        this.blogPostService = blogPostService;
+        this.adminService = adminService;
+    }
+    
+    @GetMapping("/stats")
+    @Operation(summary = "Dashboard statistics", description = "Posts per status, total views and comments, distinct authors and recent activity")
+    public ResponseEntity<AdminStatsDto> getStats() {
+        return ResponseEntity.ok(adminService.getDashboardStats());
+    }
+    
+    @GetMapping("/near-duplicates")
+    @Operation(summary = "Near-duplicate report", description = "List pairs of posts whose content is nearly identical, closest first")
+    public ResponseEntity<List<NearDuplicateDto>> getNearDuplicates(
+            @Parameter(description = "Maximum pairs to return") @RequestParam(defaultValue = "50") int limit) {
+        
+        return ResponseEntity.ok(blogPostService.getNearDuplicates(limit));
+    }
+}
@@ -0,0 +1,33 @@
+package com.blogpostapp.backend.controller;
+
+import com.blogpostapp.backend.dto.AnalyticsSummaryDto;
+import com.blogpostapp.backend.service.interfaces.AnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/analytics")
+@Tag(name = "Analytics", description = "Blog statistics API")
+public class AnalyticsController {
+    
+    private final AnalyticsService analyticsService;
+    
+    @Autowired
+    public AnalyticsController(AnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+    
+    @GetMapping("/summary")
+    @Operation(summary = "Analytics summary", description = "Totals, top posts, authors and tags, and monthly figures "
+            + "for the published posts created within a time range")
+    public ResponseEntity<AnalyticsSummaryDto> getSummary(
+            @Parameter(description = "all, or a number of days, weeks, months or years, e.g. 7d, 30d, 90d, 1y")
+            @RequestParam(defaultValue = "30d") String range) {
+        
+        return ResponseEntity.ok(analyticsService.getSummary(range));
+    }
+}
@@ -0,0 +1,57 @@
+package com.blogpostapp.backend.controller;
+
+import com.blogpostapp.backend.dto.AuthorStatsDto;
+import com.blogpostapp.backend.dto.BlogPostSummaryDto;
+import com.blogpostapp.backend.service.interfaces.AuthorService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/authors")
+@Tag(name = "Authors", description = "Author directory API")
+public class AuthorController {
+    
+    private final AuthorService authorService;
+    
+    @Autowired
+    public AuthorController(AuthorService authorService) {
+        this.authorService = authorService;
+    }
+    
+    @GetMapping
+    @Operation(summary = "List authors", description = "Authors of published posts with their post, view and comment totals and latest post")
+    public ResponseEntity<Page<AuthorStatsDto>> getAuthors(
+            @Parameter(description = "Order by posts, views, comments, recent or name") @RequestParam(defaultValue = "posts") String sort,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        
+        size = PageSizes.checked(size);
+        return ResponseEntity.ok(authorService.getAuthors(sort, PageRequest.of(page, size)));
+    }
+    
+    @GetMapping("/{author}")
+    @Operation(summary = "Get author", description = "Totals and latest post of one author, matched exactly but case-insensitively")
+    public ResponseEntity<AuthorStatsDto> getAuthor(@PathVariable String author) {
+        return ResponseEntity.ok(authorService.getAuthor(author));
+    }
+    
+    @GetMapping("/{author}/posts")
+    @Operation(summary = "Get posts by author", description = "Published posts of one author, matched exactly but case-insensitively")
+    public ResponseEntity<Page<BlogPostSummaryDto>> getPostsByAuthor(
+            @PathVariable String author,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        size = PageSizes.checked(size);
+        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        return ResponseEntity.ok(authorService.getPublishedPostsByAuthor(author, pageable));
+    }
+}
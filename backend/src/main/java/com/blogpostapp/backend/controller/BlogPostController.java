@@ -1,9 +1,13 @@
 package com.blogpostapp.backend.controller;
 
 import com.blogpostapp.backend.dto.BlogPostDto;
+import com.blogpostapp.backend.dto.BlogPostSummaryDto;
 import com.blogpostapp.backend.dto.CreateBlogPostRequest;
+import com.blogpostapp.backend.dto.PostPageDto;
+import com.blogpostapp.backend.dto.RelatedPostDto;
 import com.blogpostapp.backend.entity.BlogPost;
 import com.blogpostapp.backend.service.interfaces.BlogPostService;
+import com.blogpostapp.backend.service.interfaces.PostPageService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -12,6 +16,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -23,37 +28,52 @@ import java.util.List;
 @Tag(name = "Blog Posts", description = "Blog post management API")
 public class BlogPostController {
     
+    private static final String CURSOR_DOC = "Cursor mode: nextCursor of the previous slice, or empty for the first slice. "
+            + "Returns a slice without total counts and ignores page";
+    private static final String EXACT_TOTAL_DOC = "Count totalElements exactly instead of taking it from maintained counters or estimates";
+    
     private final BlogPostService blogPostService;
+    private final PostPageService postPageService;
     
     @Autowired
-    public BlogPostController(BlogPostService blogPostService) {
+    public BlogPostController(BlogPostService blogPostService, PostPageService postPageService) {
         this.blogPostService = blogPostService;
+        this.postPageService = postPageService;
     }
     
     @GetMapping
-    @Operation(summary = "Get all blog posts", description = "Retrieve all blog posts with pagination")
-    public ResponseEntity<Page<BlogPostDto>> getAllPosts(
+    @Operation(summary = "Get all blog posts", description = "Retrieve all blog posts with pagination. "
+            + "Listings return post summaries; the full content comes from the by-id and by-slug endpoints")
+    public ResponseEntity<Page<BlogPostSummaryDto>> getAllPosts(
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
             @Parameter(description = "Sort by field") @RequestParam(defaultValue = "createdAt") String sortBy,
-            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "desc") String sortDir) {
+            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "desc") String sortDir,
+            @Parameter(description = EXACT_TOTAL_DOC) @RequestParam(defaultValue = "false") boolean exactTotal) {
         
+        size = PageSizes.checked(size);
         Sort sort = sortDir.equalsIgnoreCase("desc") ? 
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
         Pageable pageable = PageRequest.of(page, size, sort);
         
-        Page<BlogPostDto> posts = blogPostService.getAllPosts(pageable);
+        Page<BlogPostSummaryDto> posts = blogPostService.getAllPosts(pageable, exactTotal);
         return ResponseEntity.ok(posts);
     }
     
     @GetMapping("/published")
     @Operation(summary = "Get published blog posts", description = "Retrieve only published blog posts")
-    public ResponseEntity<Page<BlogPostDto>> getPublishedPosts(
+    public ResponseEntity<Slice<BlogPostSummaryDto>> getPublishedPosts(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = CURSOR_DOC) @RequestParam(required = false) String after,
+            @Parameter(description = EXACT_TOTAL_DOC) @RequestParam(defaultValue = "false") boolean exactTotal) {
         
+        size = PageSizes.checked(size);
+        if (after != null) {
+            return ResponseEntity.ok(blogPostService.getPostsByStatus(BlogPost.PostStatus.PUBLISHED, after, size));
+        }
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<BlogPostDto> posts = blogPostService.getPublishedPosts(pageable);
+        Page<BlogPostSummaryDto> posts = blogPostService.getPublishedPosts(pageable, exactTotal);
         return ResponseEntity.ok(posts);
     }
     
@@ -69,6 +89,14 @@ public class BlogPostController {
                 .orElse(ResponseEntity.notFound().build());
     }
     
+    @GetMapping("/{id}/related")
+    @Operation(summary = "Get related posts", description = "Retrieve published posts similar in content and tags to a published post, most similar first")
+    public ResponseEntity<List<RelatedPostDto>> getRelatedPosts(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "5") int limit) {
+        return ResponseEntity.ok(blogPostService.getRelatedPosts(id, limit));
+    }
+    
     @GetMapping("/slug/{slug}")
     @Operation(summary = "Get blog post by slug", description = "Retrieve a blog post by its slug")
     public ResponseEntity<BlogPostDto> getPostBySlug(@PathVariable String slug) {
@@ -77,39 +105,68 @@ public class BlogPostController {
                 .orElse(ResponseEntity.notFound().build());
     }
     
+    @GetMapping("/slug/{slug}/page")
+    @Operation(summary = "Get post page", description = "The post by slug with its first comments, comment count and all tags "
+            + "in one response, counting a view. Parts not ready within the deadline are null and listed in 'unavailable'")
+    public ResponseEntity<PostPageDto> getPostPage(@PathVariable String slug) {
+        return ResponseEntity.ok(postPageService.getPostPage(slug));
+    }
+    
     @GetMapping("/author/{author}")
     @Operation(summary = "Get posts by author", description = "Retrieve blog posts by author name")
-    public ResponseEntity<Page<BlogPostDto>> getPostsByAuthor(
+    public ResponseEntity<Slice<BlogPostSummaryDto>> getPostsByAuthor(
             @PathVariable String author,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = CURSOR_DOC) @RequestParam(required = false) String after,
+            @Parameter(description = EXACT_TOTAL_DOC) @RequestParam(defaultValue = "false") boolean exactTotal) {
         
+        size = PageSizes.checked(size);
+        if (after != null) {
+            return ResponseEntity.ok(blogPostService.getPostsByAuthor(author, after, size));
+        }
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<BlogPostDto> posts = blogPostService.getPostsByAuthor(author, pageable);
+        Page<BlogPostSummaryDto> posts = blogPostService.getPostsByAuthor(author, pageable, exactTotal);
         return ResponseEntity.ok(posts);
     }
     
     @GetMapping("/search")
-    @Operation(summary = "Search blog posts", description = "Search blog posts by keyword in title or content")
-    public ResponseEntity<Page<BlogPostDto>> searchPosts(
+    @Operation(summary = "Search blog posts", description = "Search published posts by relevance. Supports AND, OR, NOT (or -term), "
+            + "quoted phrases, parentheses, tag:, author: and published: filters, e.g. published:2024-01..2024-06")
+    public ResponseEntity<Page<?>> searchPosts(
+            @Parameter(description = "Search query, e.g. spring -security \"boot starter\" tag:java published:2024")
             @RequestParam String keyword,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Response mode: 'full' for complete posts, 'hits' for id, slug, title, summary and highlighted snippets")
+            @RequestParam(defaultValue = "full") String mode,
+            @Parameter(description = "Also return match counts per tag, author and publication month")
+            @RequestParam(defaultValue = "false") boolean facets) {
         
+        size = PageSizes.checked(size);
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<BlogPostDto> posts = blogPostService.searchPosts(keyword, pageable);
+        if ("hits".equalsIgnoreCase(mode)) {
+            return ResponseEntity.ok(blogPostService.searchPostHits(keyword, pageable, facets));
+        }
+        Page<BlogPostDto> posts = blogPostService.searchPosts(keyword, pageable, facets);
         return ResponseEntity.ok(posts);
     }
     
     @GetMapping("/tags")
     @Operation(summary = "Get posts by tags", description = "Retrieve blog posts that contain specified tags")
-    public ResponseEntity<Page<BlogPostDto>> getPostsByTags(
+    public ResponseEntity<Slice<BlogPostSummaryDto>> getPostsByTags(
             @RequestParam List<String> tags,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = CURSOR_DOC) @RequestParam(required = false) String after,
+            @Parameter(description = EXACT_TOTAL_DOC) @RequestParam(defaultValue = "false") boolean exactTotal) {
         
+        size = PageSizes.checked(size);
+        if (after != null) {
+            return ResponseEntity.ok(blogPostService.getPostsByTags(tags, after, size));
+        }
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<BlogPostDto> posts = blogPostService.getPostsByTags(tags, pageable);
+        Page<BlogPostSummaryDto> posts = blogPostService.getPostsByTags(tags, pageable, exactTotal);
         return ResponseEntity.ok(posts);
     }
     
@@ -122,13 +179,19 @@ public class BlogPostController {
     
     @GetMapping("/status/{status}")
     @Operation(summary = "Get posts by status", description = "Retrieve blog posts by their status")
-    public ResponseEntity<Page<BlogPostDto>> getPostsByStatus(
+    public ResponseEntity<Slice<BlogPostSummaryDto>> getPostsByStatus(
             @PathVariable BlogPost.PostStatus status,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = CURSOR_DOC) @RequestParam(required = false) String after,
+            @Parameter(description = EXACT_TOTAL_DOC) @RequestParam(defaultValue = "false") boolean exactTotal) {
         
+        size = PageSizes.checked(size);
+        if (after != null) {
+            return ResponseEntity.ok(blogPostService.getPostsByStatus(status, after, size));
+        }
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<BlogPostDto> posts = blogPostService.getPostsByStatus(status, pageable);
+        Page<BlogPostSummaryDto> posts = blogPostService.getPostsByStatus(status, pageable, exactTotal);
         return ResponseEntity.ok(posts);
     }
     
@@ -3,12 +3,14 @@ package com.blogpostapp.backend.controller;
 import com.blogpostapp.backend.dto.CommentDto;
 import com.blogpostapp.backend.service.interfaces.CommentService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -28,11 +30,23 @@ public class CommentController {
     
     @GetMapping("/post/{postId}")
     @Operation(summary = "Get comments by post ID", description = "Retrieve all comments for a specific blog post")
-    public ResponseEntity<Page<CommentDto>> getCommentsByPostId(
+    public ResponseEntity<Slice<CommentDto>> getCommentsByPostId(
             @PathVariable Long postId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Cursor mode: nextCursor of the previous slice, or empty for the first slice. "
+                    + "Returns a slice without total counts and ignores page") @RequestParam(required = false) String after,
+            @Parameter(description = "Polling mode: pollCursor of an earlier response. Returns only comments not seen yet, oldest first. "
+                    + "A comment committed more than a few seconds after it was created can be missed")
+            @RequestParam(required = false) String since) {
         
+        size = PageSizes.checked(size);
+        if (since != null) {
+            return ResponseEntity.ok(commentService.getCommentsSince(postId, since, size));
+        }
+        if (after != null) {
+            return ResponseEntity.ok(commentService.getCommentsByPostId(postId, after, size));
+        }
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
         Page<CommentDto> comments = commentService.getCommentsByPostId(postId, pageable);
         return ResponseEntity.ok(comments);
@@ -0,0 +1,19 @@
+package com.blogpostapp.backend.controller;
+
+import com.blogpostapp.backend.exception.BadRequestException;
+
+// Page and slice sizes accepted by the listing endpoints; larger requests are capped
+final class PageSizes {
+    
+    static final int MAX = 100;
+    
+    private PageSizes() {
+    }
+    
+    static int checked(int size) {
+        if (size < 1) {
+            throw new BadRequestException("size must be at least 1");
+        }
+        return Math.min(size, MAX);
+    }
+}
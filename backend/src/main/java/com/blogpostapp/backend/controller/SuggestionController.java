@@ -0,0 +1,35 @@
+package com.blogpostapp.backend.controller;
+
+import com.blogpostapp.backend.dto.SuggestionDto;
+import com.blogpostapp.backend.search.SuggestionIndex;
+import com.blogpostapp.backend.service.interfaces.SuggestionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/suggest")
+@Tag(name = "Suggestions", description = "Search box autocomplete API")
+public class SuggestionController {
+    
+    private final SuggestionService suggestionService;
+    
+    @Autowired
+    public SuggestionController(SuggestionService suggestionService) {
+        this.suggestionService = suggestionService;
+    }
+    
+    @GetMapping
+    @Operation(summary = "Autocomplete", description = "Suggest published post titles, tags and authors starting with a prefix")
+    public ResponseEntity<List<SuggestionDto>> suggest(
+            @Parameter(description = "Prefix typed so far") @RequestParam String q,
+            @Parameter(description = "Restrict to TITLE, TAG or AUTHOR") @RequestParam(required = false) String type,
+            @Parameter(description = "Maximum suggestions per type, at most " + SuggestionIndex.MAX_LIMIT) @RequestParam(defaultValue = "5") int limit) {
+        
+        return ResponseEntity.ok(suggestionService.suggest(q, type, limit));
+    }
+}
@@ -0,0 +1,33 @@
+package com.blogpostapp.backend.controller;
+
+import com.blogpostapp.backend.dto.TagStatsDto;
+import com.blogpostapp.backend.service.interfaces.TagService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/tags")
+@Tag(name = "Tags", description = "Tag statistics API")
+public class TagController {
+    
+    private final TagService tagService;
+    
+    @Autowired
+    public TagController(TagService tagService) {
+        this.tagService = tagService;
+    }
+    
+    @GetMapping("/stats")
+    @Operation(summary = "Tag statistics", description = "Published post count, total views and latest use of every tag")
+    public ResponseEntity<List<TagStatsDto>> getTagStats(
+            @Parameter(description = "Order by posts, views, recent or name") @RequestParam(defaultValue = "posts") String sort,
+            @Parameter(description = "Maximum tags to return; all when omitted") @RequestParam(required = false) Integer limit) {
+        
+        return ResponseEntity.ok(tagService.getTagStats(sort, limit));
+    }
+}
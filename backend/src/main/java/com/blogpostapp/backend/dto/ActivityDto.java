@@ -0,0 +1,34 @@
+package com.blogpostapp.backend.dto;
+
+import java.time.LocalDateTime;
+
+public class ActivityDto {
+    // POST_CREATED, POST_UPDATED, POST_PUBLISHED, POST_ARCHIVED, POST_DELETED, COMMENT_ADDED or COMMENT_DELETED
+    private String type;
+    private Long postId;
+    private String postTitle;
+    private LocalDateTime at;
+    
+    // Constructors
+    public ActivityDto() {}
+    
+    public ActivityDto(String type, Long postId, String postTitle, LocalDateTime at) {
+        this.type = type;
+        this.postId = postId;
+        this.postTitle = postTitle;
+        this.at = at;
+    }
+    
+    // Getters and Setters
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+    
+    public Long getPostId() { return postId; }
+    public void setPostId(Long postId) { this.postId = postId; }
+    
+    public String getPostTitle() { return postTitle; }
+    public void setPostTitle(String postTitle) { this.postTitle = postTitle; }
+    
+    public LocalDateTime getAt() { return at; }
+    public void setAt(LocalDateTime at) { this.at = at; }
+}
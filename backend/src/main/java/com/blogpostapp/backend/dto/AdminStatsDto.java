@@ -0,0 +1,46 @@
+package com.blogpostapp.backend.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public class AdminStatsDto {
+    private long totalPosts;
+    private Map<String, Long> postsByStatus;
+    private long totalViews;
+    private long totalComments;
+    private long authors;
+    // Newest first
+    private List<ActivityDto> recentActivity;
+    
+    // Constructors
+    public AdminStatsDto() {}
+    
+    public AdminStatsDto(long totalPosts, Map<String, Long> postsByStatus, long totalViews, long totalComments,
+                         long authors, List<ActivityDto> recentActivity) {
+        this.totalPosts = totalPosts;
+        this.postsByStatus = postsByStatus;
+        this.totalViews = totalViews;
+        this.totalComments = totalComments;
+        this.authors = authors;
+        this.recentActivity = recentActivity;
+    }
+    
+    // Getters and Setters
+    public long getTotalPosts() { return totalPosts; }
+    public void setTotalPosts(long totalPosts) { this.totalPosts = totalPosts; }
+    
+    public Map<String, Long> getPostsByStatus() { return postsByStatus; }
+    public void setPostsByStatus(Map<String, Long> postsByStatus) { this.postsByStatus = postsByStatus; }
+    
+    public long getTotalViews() { return totalViews; }
+    public void setTotalViews(long totalViews) { this.totalViews = totalViews; }
+    
+    public long getTotalComments() { return totalComments; }
+    public void setTotalComments(long totalComments) { this.totalComments = totalComments; }
+    
+    public long getAuthors() { return authors; }
+    public void setAuthors(long authors) { this.authors = authors; }
+    
+    public List<ActivityDto> getRecentActivity() { return recentActivity; }
+    public void setRecentActivity(List<ActivityDto> recentActivity) { this.recentActivity = recentActivity; }
+}
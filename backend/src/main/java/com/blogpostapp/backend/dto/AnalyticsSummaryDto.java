@@ -0,0 +1,74 @@
+package com.blogpostapp.backend.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Aggregates over the published posts created within a time range
+public class AnalyticsSummaryDto {
+    private String range;
+    private LocalDateTime since;
+    private long totalPosts;
+    private long totalViews;
+    private long totalComments;
+    private long avgViewsPerPost;
+    private double avgCommentsPerPost;
+    // Comments per 100 views
+    private double engagementRate;
+    // Posts with more than 500, 100 to 500 and fewer than 100 views
+    private long highPerformers;
+    private long goodPerformers;
+    private long lowPerformers;
+    private List<PostStatsDto> topPosts;
+    private List<GroupStatsDto> topAuthors;
+    private List<GroupStatsDto> topTags;
+    private List<MonthlyStatsDto> monthly;
+    
+    // Constructors
+    public AnalyticsSummaryDto() {}
+    
+    // Getters and Setters
+    public String getRange() { return range; }
+    public void setRange(String range) { this.range = range; }
+    
+    public LocalDateTime getSince() { return since; }
+    public void setSince(LocalDateTime since) { this.since = since; }
+    
+    public long getTotalPosts() { return totalPosts; }
+    public void setTotalPosts(long totalPosts) { this.totalPosts = totalPosts; }
+    
+    public long getTotalViews() { return totalViews; }
+    public void setTotalViews(long totalViews) { this.totalViews = totalViews; }
+    
+    public long getTotalComments() { return totalComments; }
+    public void setTotalComments(long totalComments) { this.totalComments = totalComments; }
+    
+    public long getAvgViewsPerPost() { return avgViewsPerPost; }
+    public void setAvgViewsPerPost(long avgViewsPerPost) { this.avgViewsPerPost = avgViewsPerPost; }
+    
+    public double getAvgCommentsPerPost() { return avgCommentsPerPost; }
+    public void setAvgCommentsPerPost(double avgCommentsPerPost) { this.avgCommentsPerPost = avgCommentsPerPost; }
+    
+    public double getEngagementRate() { return engagementRate; }
+    public void setEngagementRate(double engagementRate) { this.engagementRate = engagementRate; }
+    
+    public long getHighPerformers() { return highPerformers; }
+    public void setHighPerformers(long highPerformers) { this.highPerformers = highPerformers; }
+    
+    public long getGoodPerformers() { return goodPerformers; }
+    public void setGoodPerformers(long goodPerformers) { this.goodPerformers = goodPerformers; }
+    
+    public long getLowPerformers() { return lowPerformers; }
+    public void setLowPerformers(long lowPerformers) { this.lowPerformers = lowPerformers; }
+    
+    public List<PostStatsDto> getTopPosts() { return topPosts; }
+    public void setTopPosts(List<PostStatsDto> topPosts) { this.topPosts = topPosts; }
+    
+    public List<GroupStatsDto> getTopAuthors() { return topAuthors; }
+    public void setTopAuthors(List<GroupStatsDto> topAuthors) { this.topAuthors = topAuthors; }
+    
+    public List<GroupStatsDto> getTopTags() { return topTags; }
+    public void setTopTags(List<GroupStatsDto> topTags) { this.topTags = topTags; }
+    
+    public List<MonthlyStatsDto> getMonthly() { return monthly; }
+    public void setMonthly(List<MonthlyStatsDto> monthly) { this.monthly = monthly; }
+}
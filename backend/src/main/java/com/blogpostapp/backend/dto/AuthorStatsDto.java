@@ -0,0 +1,55 @@
+package com.blogpostapp.backend.dto;
+
+import java.time.LocalDateTime;
+
+public class AuthorStatsDto {
+    private String name;
+    // Published posts by the author and their views and comments
+    private long posts;
+    private long views;
+    private long comments;
+    private Long latestPostId;
+    private String latestPostSlug;
+    private String latestPostTitle;
+    private LocalDateTime latestPostAt;
+    
+    // Constructors
+    public AuthorStatsDto() {}
+    
+    public AuthorStatsDto(String name, long posts, long views, long comments, Long latestPostId,
+                          String latestPostSlug, String latestPostTitle, LocalDateTime latestPostAt) {
+        this.name = name;
+        this.posts = posts;
+        this.views = views;
+        this.comments = comments;
+        this.latestPostId = latestPostId;
+        this.latestPostSlug = latestPostSlug;
+        this.latestPostTitle = latestPostTitle;
+        this.latestPostAt = latestPostAt;
+    }
+    
+    // Getters and Setters
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    
+    public long getPosts() { return posts; }
+    public void setPosts(long posts) { this.posts = posts; }
+    
+    public long getViews() { return views; }
+    public void setViews(long views) { this.views = views; }
+    
+    public long getComments() { return comments; }
+    public void setComments(long comments) { this.comments = comments; }
+    
+    public Long getLatestPostId() { return latestPostId; }
+    public void setLatestPostId(Long latestPostId) { this.latestPostId = latestPostId; }
+    
+    public String getLatestPostSlug() { return latestPostSlug; }
+    public void setLatestPostSlug(String latestPostSlug) { this.latestPostSlug = latestPostSlug; }
+    
+    public String getLatestPostTitle() { return latestPostTitle; }
+    public void setLatestPostTitle(String latestPostTitle) { this.latestPostTitle = latestPostTitle; }
+    
+    public LocalDateTime getLatestPostAt() { return latestPostAt; }
+    public void setLatestPostAt(LocalDateTime latestPostAt) { this.latestPostAt = latestPostAt; }
+}
@@ -0,0 +1,83 @@
+package com.blogpostapp.backend.dto;
+
+import com.blogpostapp.backend.entity.BlogPost;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+// What a post card in a listing shows: everything but the full content, which only the detail
+// endpoints return. Selected directly by the repository's summary queries.
+public class BlogPostSummaryDto {
+    private Long id;
+    private String title;
+    private String slug;
+    private String author;
+    private String summary;
+    // Start of the content, only for posts without a summary
+    private String excerpt;
+    private BlogPost.PostStatus status;
+    private Set<String> tags;
+    private Long viewCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime publishedAt;
+    private Integer commentCount;
+    
+    // Constructors
+    public BlogPostSummaryDto() {}
+    
+    public BlogPostSummaryDto(Long id, String title, String slug, String author, String summary, String excerpt,
+                              BlogPost.PostStatus status, Long viewCount, LocalDateTime createdAt,
+                              LocalDateTime updatedAt, LocalDateTime publishedAt) {
+        this.id = id;
+        this.title = title;
+        this.slug = slug;
+        this.author = author;
+        this.summary = summary;
+        this.excerpt = excerpt;
+        this.status = status;
+        this.viewCount = viewCount;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.publishedAt = publishedAt;
+    }
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    
+    public String getSlug() { return slug; }
+    public void setSlug(String slug) { this.slug = slug; }
+    
+    public String getAuthor() { return author; }
+    public void setAuthor(String author) { this.author = author; }
+    
+    public String getSummary() { return summary; }
+    public void setSummary(String summary) { this.summary = summary; }
+    
+    public String getExcerpt() { return excerpt; }
+    public void setExcerpt(String excerpt) { this.excerpt = excerpt; }
+    
+    public BlogPost.PostStatus getStatus() { return status; }
+    public void setStatus(BlogPost.PostStatus status) { this.status = status; }
+    
+    public Set<String> getTags() { return tags; }
+    public void setTags(Set<String> tags) { this.tags = tags; }
+    
+    public Long getViewCount() { return viewCount; }
+    public void setViewCount(Long viewCount) { this.viewCount = viewCount; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+    
+    public LocalDateTime getPublishedAt() { return publishedAt; }
+    public void setPublishedAt(LocalDateTime publishedAt) { this.publishedAt = publishedAt; }
+    
+    public Integer getCommentCount() { return commentCount; }
+    public void setCommentCount(Integer commentCount) { this.commentCount = commentCount; }
+}
@@ -0,0 +1,28 @@
+package com.blogpostapp.backend.dto;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import java.util.List;
+
+// A slice of a keyset-paginated listing plus the token for the next one, null on the last slice;
+// serializes like any Slice with "nextCursor" and, unlike a Page, without counting the total.
+// Listings that can be polled for newer rows also carry "pollCursor", the position of the newest row seen.
+public class CursorSlice<T> extends SliceImpl<T> {
+    
+    private final String nextCursor;
+    private final String pollCursor;
+    
+    public CursorSlice(List<T> content, int size, String nextCursor) {
+        this(content, size, nextCursor != null, nextCursor, null);
+    }
+    
+    public CursorSlice(List<T> content, int size, boolean hasNext, String nextCursor, String pollCursor) {
+        super(content, Pageable.ofSize(size), hasNext);
+        this.nextCursor = nextCursor;
+        this.pollCursor = pollCursor;
+    }
+    
+    public String getNextCursor() { return nextCursor; }
+    
+    public String getPollCursor() { return pollCursor; }
+}
@@ -0,0 +1,21 @@
+package com.blogpostapp.backend.dto;
+
+public class FacetCountDto {
+    private String value;
+    private long count;
+    
+    // Constructors
+    public FacetCountDto() {}
+    
+    public FacetCountDto(String value, long count) {
+        this.value = value;
+        this.count = count;
+    }
+    
+    // Getters and Setters
+    public String getValue() { return value; }
+    public void setValue(String value) { this.value = value; }
+    
+    public long getCount() { return count; }
+    public void setCount(long count) { this.count = count; }
+}
@@ -0,0 +1,37 @@
+package com.blogpostapp.backend.dto;
+
+// Totals for the posts sharing an author or a tag
+public class GroupStatsDto {
+    private String name;
+    private long posts;
+    private long views;
+    private long comments;
+    private long avgViews;
+    
+    // Constructors
+    public GroupStatsDto() {}
+    
+    public GroupStatsDto(String name, long posts, long views, long comments) {
+        this.name = name;
+        this.posts = posts;
+        this.views = views;
+        this.comments = comments;
+        this.avgViews = posts > 0 ? Math.round((double) views / posts) : 0;
+    }
+    
+    // Getters and Setters
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    
+    public long getPosts() { return posts; }
+    public void setPosts(long posts) { this.posts = posts; }
+    
+    public long getViews() { return views; }
+    public void setViews(long views) { this.views = views; }
+    
+    public long getComments() { return comments; }
+    public void setComments(long comments) { this.comments = comments; }
+    
+    public long getAvgViews() { return avgViews; }
+    public void setAvgViews(long avgViews) { this.avgViews = avgViews; }
+}
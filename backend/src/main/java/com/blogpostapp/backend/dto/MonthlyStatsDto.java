@@ -0,0 +1,32 @@
+package com.blogpostapp.backend.dto;
+
+public class MonthlyStatsDto {
+    // Month the posts were created, e.g. 2024-03
+    private String month;
+    private long posts;
+    private long views;
+    private long comments;
+    
+    // Constructors
+    public MonthlyStatsDto() {}
+    
+    public MonthlyStatsDto(String month, long posts, long views, long comments) {
+        this.month = month;
+        this.posts = posts;
+        this.views = views;
+        this.comments = comments;
+    }
+    
+    // Getters and Setters
+    public String getMonth() { return month; }
+    public void setMonth(String month) { this.month = month; }
+    
+    public long getPosts() { return posts; }
+    public void setPosts(long posts) { this.posts = posts; }
+    
+    public long getViews() { return views; }
+    public void setViews(long views) { this.views = views; }
+    
+    public long getComments() { return comments; }
+    public void setComments(long comments) { this.comments = comments; }
+}
@@ -0,0 +1,49 @@
+package com.blogpostapp.backend.dto;
+
+public class NearDuplicateDto {
+    private Long postId;
+    private String slug;
+    private String title;
+    // The older post this one resembles
+    private Long duplicateOfId;
+    private String duplicateOfSlug;
+    private String duplicateOfTitle;
+    // Differing bits between the two content fingerprints, out of 64
+    private int distance;
+    
+    // Constructors
+    public NearDuplicateDto() {}
+    
+    public NearDuplicateDto(Long postId, String slug, String title, Long duplicateOfId, String duplicateOfSlug,
+                            String duplicateOfTitle, int distance) {
+        this.postId = postId;
+        this.slug = slug;
+        this.title = title;
+        this.duplicateOfId = duplicateOfId;
+        this.duplicateOfSlug = duplicateOfSlug;
+        this.duplicateOfTitle = duplicateOfTitle;
+        this.distance = distance;
+    }
+    
+    // Getters and Setters
+    public Long getPostId() { return postId; }
+    public void setPostId(Long postId) { this.postId = postId; }
+    
+    public String getSlug() { return slug; }
+    public void setSlug(String slug) { this.slug = slug; }
+    
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    
+    public Long getDuplicateOfId() { return duplicateOfId; }
+    public void setDuplicateOfId(Long duplicateOfId) { this.duplicateOfId = duplicateOfId; }
+    
+    public String getDuplicateOfSlug() { return duplicateOfSlug; }
+    public void setDuplicateOfSlug(String duplicateOfSlug) { this.duplicateOfSlug = duplicateOfSlug; }
+    
+    public String getDuplicateOfTitle() { return duplicateOfTitle; }
+    public void setDuplicateOfTitle(String duplicateOfTitle) { this.duplicateOfTitle = duplicateOfTitle; }
+    
+    public int getDistance() { return distance; }
+    public void setDistance(int distance) { this.distance = distance; }
+}
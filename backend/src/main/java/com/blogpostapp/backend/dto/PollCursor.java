@@ -0,0 +1,39 @@
+package com.blogpostapp.backend.dto;
+
+import com.blogpostapp.backend.exception.BadRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Position of a client polling for new rows: the creation time of the newest row it has seen, plus the ids
+// it has seen close to that time. Polls re-read a short window behind createdAt, because rows are stamped
+// before they commit, and skip the seen ids. Sent to clients as an opaque URL-safe token.
+public record PollCursor(LocalDateTime createdAt, Set<Long> seen) {
+    
+    // Before every real row, for polling a listing that is still empty
+    public static final PollCursor START = new PollCursor(LocalDateTime.of(1970, 1, 1, 0, 0), Set.of());
+    
+    public static PollCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf('|');
+            String ids = decoded.substring(separator + 1);
+            Set<Long> seen = ids.isEmpty() ? Set.of() : Arrays.stream(ids.split(","))
+                    .map(Long::valueOf)
+                    .collect(Collectors.toUnmodifiableSet());
+            return new PollCursor(LocalDateTime.parse(decoded.substring(0, separator)), seen);
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new BadRequestException("Invalid cursor: " + token);
+        }
+    }
+    
+    public String encode() {
+        String ids = seen.stream().sorted().map(String::valueOf).collect(Collectors.joining(","));
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt + "|" + ids).getBytes(StandardCharsets.UTF_8));
+    }
+}
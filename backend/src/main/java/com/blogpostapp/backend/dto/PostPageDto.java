@@ -0,0 +1,41 @@
+package com.blogpostapp.backend.dto;
+
+import java.util.List;
+
+// Everything the post page needs in one response. Parts that failed or missed the deadline are
+// null and listed in "unavailable", so the client can fetch them from their own endpoints.
+public class PostPageDto {
+    private BlogPostDto post;
+    private CursorSlice<CommentDto> comments;
+    private Long commentCount;
+    private List<String> tags;
+    private List<String> unavailable;
+    
+    // Constructors
+    public PostPageDto() {}
+    
+    public PostPageDto(BlogPostDto post, CursorSlice<CommentDto> comments, Long commentCount, List<String> tags,
+                       List<String> unavailable) {
+        this.post = post;
+        this.comments = comments;
+        this.commentCount = commentCount;
+        this.tags = tags;
+        this.unavailable = unavailable;
+    }
+    
+    // Getters and Setters
+    public BlogPostDto getPost() { return post; }
+    public void setPost(BlogPostDto post) { this.post = post; }
+    
+    public CursorSlice<CommentDto> getComments() { return comments; }
+    public void setComments(CursorSlice<CommentDto> comments) { this.comments = comments; }
+    
+    public Long getCommentCount() { return commentCount; }
+    public void setCommentCount(Long commentCount) { this.commentCount = commentCount; }
+    
+    public List<String> getTags() { return tags; }
+    public void setTags(List<String> tags) { this.tags = tags; }
+    
+    public List<String> getUnavailable() { return unavailable; }
+    public void setUnavailable(List<String> unavailable) { this.unavailable = unavailable; }
+}
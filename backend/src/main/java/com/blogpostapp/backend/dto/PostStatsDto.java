@@ -0,0 +1,42 @@
+package com.blogpostapp.backend.dto;
+
+public class PostStatsDto {
+    private Long id;
+    private String slug;
+    private String title;
+    private long views;
+    private long comments;
+    // Comments per 100 views
+    private double engagementRate;
+    
+    // Constructors
+    public PostStatsDto() {}
+    
+    public PostStatsDto(Long id, String slug, String title, long views, long comments) {
+        this.id = id;
+        this.slug = slug;
+        this.title = title;
+        this.views = views;
+        this.comments = comments;
+        this.engagementRate = views > 0 ? comments * 100.0 / views : 0;
+    }
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getSlug() { return slug; }
+    public void setSlug(String slug) { this.slug = slug; }
+    
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    
+    public long getViews() { return views; }
+    public void setViews(long views) { this.views = views; }
+    
+    public long getComments() { return comments; }
+    public void setComments(long comments) { this.comments = comments; }
+    
+    public double getEngagementRate() { return engagementRate; }
+    public void setEngagementRate(double engagementRate) { this.engagementRate = engagementRate; }
+}
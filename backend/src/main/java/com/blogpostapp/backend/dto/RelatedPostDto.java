@@ -0,0 +1,44 @@
+package com.blogpostapp.backend.dto;
+
+import java.util.Set;
+
+public class RelatedPostDto {
+    private Long id;
+    private String slug;
+    private String title;
+    private String summary;
+    private Set<String> tags;
+    // Blend of content and tag similarity, between 0 and 1
+    private double score;
+    
+    // Constructors
+    public RelatedPostDto() {}
+    
+    public RelatedPostDto(Long id, String slug, String title, String summary, Set<String> tags, double score) {
+        this.id = id;
+        this.slug = slug;
+        this.title = title;
+        this.summary = summary;
+        this.tags = tags;
+        this.score = score;
+    }
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getSlug() { return slug; }
+    public void setSlug(String slug) { this.slug = slug; }
+    
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    
+    public String getSummary() { return summary; }
+    public void setSummary(String summary) { this.summary = summary; }
+    
+    public Set<String> getTags() { return tags; }
+    public void setTags(Set<String> tags) { this.tags = tags; }
+    
+    public double getScore() { return score; }
+    public void setScore(double score) { this.score = score; }
+}
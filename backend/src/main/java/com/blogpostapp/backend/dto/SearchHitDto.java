@@ -0,0 +1,39 @@
+package com.blogpostapp.backend.dto;
+
+import java.util.List;
+
+public class SearchHitDto {
+    private Long id;
+    private String slug;
+    private String title;
+    private String summary;
+    // HTML-escaped fragments of the content with matched terms wrapped in <mark>
+    private List<String> snippets;
+    
+    // Constructors
+    public SearchHitDto() {}
+    
+    public SearchHitDto(Long id, String slug, String title, String summary, List<String> snippets) {
+        this.id = id;
+        this.slug = slug;
+        this.title = title;
+        this.summary = summary;
+        this.snippets = snippets;
+    }
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public String getSlug() { return slug; }
+    public void setSlug(String slug) { this.slug = slug; }
+    
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    
+    public String getSummary() { return summary; }
+    public void setSummary(String summary) { this.summary = summary; }
+    
+    public List<String> getSnippets() { return snippets; }
+    public void setSnippets(List<String> snippets) { this.snippets = snippets; }
+}
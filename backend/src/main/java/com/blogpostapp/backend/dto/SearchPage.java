@@ -0,0 +1,24 @@
+package com.blogpostapp.backend.dto;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import java.util.List;
+import java.util.Map;
+
+// A regular page of search results plus facet counts over the whole result set and, when the query
+// was typo-corrected, the corrected query; serializes like any Page with "facets" and "correctedQuery"
+public class SearchPage<T> extends PageImpl<T> {
+    
+    private final Map<String, List<FacetCountDto>> facets;
+    private final String correctedQuery;
+    
+    public SearchPage(List<T> content, Pageable pageable, long total, Map<String, List<FacetCountDto>> facets, String correctedQuery) {
+        super(content, pageable, total);
+        this.facets = facets;
+        this.correctedQuery = correctedQuery;
+    }
+    
+    public Map<String, List<FacetCountDto>> getFacets() { return facets; }
+    
+    public String getCorrectedQuery() { return correctedQuery; }
+}
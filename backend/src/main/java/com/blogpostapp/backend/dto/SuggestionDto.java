@@ -0,0 +1,28 @@
+package com.blogpostapp.backend.dto;
+
+public class SuggestionDto {
+    // TITLE, TAG or AUTHOR
+    private String type;
+    private String text;
+    // Only set for titles, so the UI can link straight to the post
+    private String slug;
+    
+    // Constructors
+    public SuggestionDto() {}
+    
+    public SuggestionDto(String type, String text, String slug) {
+        this.type = type;
+        this.text = text;
+        this.slug = slug;
+    }
+    
+    // Getters and Setters
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+    
+    public String getText() { return text; }
+    public void setText(String text) { this.text = text; }
+    
+    public String getSlug() { return slug; }
+    public void setSlug(String slug) { this.slug = slug; }
+}
@@ -0,0 +1,35 @@
+package com.blogpostapp.backend.dto;
+
+import java.time.LocalDateTime;
+
+public class TagStatsDto {
+    private String tag;
+    // Published posts with the tag, and their views
+    private long posts;
+    private long views;
+    // Latest publication among those posts
+    private LocalDateTime lastUsedAt;
+    
+    // Constructors
+    public TagStatsDto() {}
+    
+    public TagStatsDto(String tag, long posts, long views, LocalDateTime lastUsedAt) {
+        this.tag = tag;
+        this.posts = posts;
+        this.views = views;
+        this.lastUsedAt = lastUsedAt;
+    }
+    
+    // Getters and Setters
+    public String getTag() { return tag; }
+    public void setTag(String tag) { this.tag = tag; }
+    
+    public long getPosts() { return posts; }
+    public void setPosts(long posts) { this.posts = posts; }
+    
+    public long getViews() { return views; }
+    public void setViews(long views) { this.views = views; }
+    
+    public LocalDateTime getLastUsedAt() { return lastUsedAt; }
+    public void setLastUsedAt(LocalDateTime lastUsedAt) { this.lastUsedAt = lastUsedAt; }
+}
@@ -13,7 +13,9 @@ import java.util.Set;
 @Table(name = "blog_posts", indexes = {
     @Index(name = "idx_blog_post_status", columnList = "status"),
     @Index(name = "idx_blog_post_author", columnList = "author"),
-    @Index(name = "idx_blog_post_created_at", columnList = "created_at")
+    // Keyset pagination order, with and without the status filter
+    @Index(name = "idx_blog_post_status_created_at_id", columnList = "status, created_at, id"),
+    @Index(name = "idx_blog_post_created_at_id", columnList = "created_at, id")
 })
 public class BlogPost {
     @Id
@@ -53,7 +55,8 @@ public class BlogPost {
     @OneToMany(mappedBy = "blogPost", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private Set<Comment> comments = new HashSet<>();
     
-    @Column(name = "view_count")
+    // Written only by the batched view count flush, never by entity saves
+    @Column(name = "view_count", updatable = false)
     private Long viewCount = 0L;
     
     @CreationTimestamp
@@ -67,6 +70,10 @@ public class BlogPost {
     @Column(name = "published_at")
     private LocalDateTime publishedAt;
     
+    // 64-bit SimHash of the content, for spotting re-submitted and copy-pasted posts
+    @Column(name = "content_fingerprint")
+    private Long contentFingerprint;
+    
     public enum PostStatus {
         DRAFT, PUBLISHED, ARCHIVED
     }
@@ -140,6 +147,9 @@ public class BlogPost {
     public LocalDateTime getPublishedAt() { return publishedAt; }
     public void setPublishedAt(LocalDateTime publishedAt) { this.publishedAt = publishedAt; }
     
+    public Long getContentFingerprint() { return contentFingerprint; }
+    public void setContentFingerprint(Long contentFingerprint) { this.contentFingerprint = contentFingerprint; }
+    
     public void incrementViewCount() {
         this.viewCount++;
     }
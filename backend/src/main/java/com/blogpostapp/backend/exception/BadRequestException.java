@@ -0,0 +1,8 @@
+package com.blogpostapp.backend.exception;
+
+// A request parameter the client has to fix, answered with 400
+public class BadRequestException extends RuntimeException {
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
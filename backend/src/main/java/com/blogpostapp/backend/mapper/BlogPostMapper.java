@@ -11,6 +11,11 @@ public interface BlogPostMapper {
     @Mapping(target = "commentCount", expression = "java(blogPost.getComments() != null ? blogPost.getComments().size() : 0)")
     BlogPostDto toDto(BlogPost blogPost);
     
+    // Used for list pages, where tags and comment counts are filled in by BlogPostPageHydrator
+    @Mapping(target = "tags", ignore = true)
+    @Mapping(target = "commentCount", ignore = true)
+    BlogPostDto toDtoWithoutAssociations(BlogPost blogPost);
+    
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "slug", ignore = true)
     @Mapping(target = "comments", ignore = true)
@@ -18,6 +23,7 @@ public interface BlogPostMapper {
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "publishedAt", ignore = true)
+    @Mapping(target = "contentFingerprint", ignore = true)
     BlogPost toEntity(CreateBlogPostRequest request);
     
     @Mapping(target = "id", ignore = true)
@@ -27,5 +33,6 @@ public interface BlogPostMapper {
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "publishedAt", ignore = true)
+    @Mapping(target = "contentFingerprint", ignore = true)
     void updateEntity(@MappingTarget BlogPost blogPost, BlogPostDto dto);
 }
\ No newline at end of file
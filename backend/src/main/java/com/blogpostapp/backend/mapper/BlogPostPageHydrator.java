@@ -0,0 +1,83 @@
+package com.blogpostapp.backend.mapper;
+
+import com.blogpostapp.backend.dto.BlogPostDto;
+import com.blogpostapp.backend.dto.BlogPostSummaryDto;
+import com.blogpostapp.backend.entity.BlogPost;
+import com.blogpostapp.backend.repository.BlogPostRepository;
+import com.blogpostapp.backend.repository.CommentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+public class BlogPostPageHydrator {
+    
+    private final BlogPostRepository blogPostRepository;
+    private final CommentRepository commentRepository;
+    private final BlogPostMapper blogPostMapper;
+    
+    @Autowired
+    public BlogPostPageHydrator(BlogPostRepository blogPostRepository,
+                                CommentRepository commentRepository,
+                                BlogPostMapper blogPostMapper) {
+        this.blogPostRepository = blogPostRepository;
+        this.commentRepository = commentRepository;
+        this.blogPostMapper = blogPostMapper;
+    }
+    
+    // Maps a page of posts using one grouped query for tags and one for comment counts,
+    // instead of touching the lazy collections of every post
+    public Page<BlogPostDto> hydrate(Page<BlogPost> page) {
+        if (page.isEmpty()) {
+            return page.map(blogPostMapper::toDtoWithoutAssociations);
+        }
+        
+        List<Long> ids = page.getContent().stream().map(BlogPost::getId).toList();
+        Map<Long, Set<String>> tagsByPost = loadTags(ids);
+        Map<Long, Long> commentCounts = loadCommentCounts(ids);
+        
+        return page.map(post -> {
+            BlogPostDto dto = blogPostMapper.toDtoWithoutAssociations(post);
+            dto.setTags(tagsByPost.getOrDefault(post.getId(), new HashSet<>()));
+            dto.setCommentCount(commentCounts.getOrDefault(post.getId(), 0L).intValue());
+            return dto;
+        });
+    }
+    
+    // Fills in the tags and comment counts of listing summaries the same way, in place
+    public void hydrateSummaries(List<BlogPostSummaryDto> summaries) {
+        if (summaries.isEmpty()) {
+            return;
+        }
+        
+        List<Long> ids = summaries.stream().map(BlogPostSummaryDto::getId).toList();
+        Map<Long, Set<String>> tagsByPost = loadTags(ids);
+        Map<Long, Long> commentCounts = loadCommentCounts(ids);
+        
+        for (BlogPostSummaryDto summary : summaries) {
+            summary.setTags(tagsByPost.getOrDefault(summary.getId(), new HashSet<>()));
+            summary.setCommentCount(commentCounts.getOrDefault(summary.getId(), 0L).intValue());
+        }
+    }
+    
+    private Map<Long, Set<String>> loadTags(List<Long> ids) {
+        Map<Long, Set<String>> tagsByPost = new HashMap<>();
+        for (Object[] row : blogPostRepository.findTagsByPostIds(ids)) {
+            tagsByPost.computeIfAbsent((Long) row[0], id -> new HashSet<>()).add((String) row[1]);
+        }
+        return tagsByPost;
+    }
+    
+    private Map<Long, Long> loadCommentCounts(List<Long> ids) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : commentRepository.countByBlogPostIds(ids)) {
+            counts.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+}
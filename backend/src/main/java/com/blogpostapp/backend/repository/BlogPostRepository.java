@@ -1,12 +1,17 @@
 package com.blogpostapp.backend.repository;
 
+import com.blogpostapp.backend.dto.BlogPostSummaryDto;
 import com.blogpostapp.backend.entity.BlogPost;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,30 +23,123 @@ public interface BlogPostRepository extends JpaRepository<BlogPost, Long> {
     Page<BlogPost> findByAuthorContainingIgnoreCase(String author, Pageable pageable);
     Page<BlogPost> findByTitleContainingIgnoreCase(String title, Pageable pageable);
     Optional<BlogPost> findBySlug(String slug);
+    long countByAuthorContainingIgnoreCase(String author);
+    
+    @Query("SELECT COUNT(p) FROM BlogPost p JOIN p.tags t WHERE t IN :tags AND p.status = :status")
+    long countByTagsAndStatus(@Param("tags") List<String> tags, @Param("status") BlogPost.PostStatus status);
+    
+    // Listings select only what a post card shows, never the TEXT content column; posts without a
+    // summary get the start of their content instead. Slices skip the COUNT query, totals come from PostTotals.
+    String SUMMARY = "SELECT new com.blogpostapp.backend.dto.BlogPostSummaryDto(p.id, p.title, p.slug, p.author, p.summary, "
+            + "CASE WHEN p.summary IS NULL OR p.summary = '' THEN SUBSTRING(p.content, 1, 300) END, "
+            + "p.status, p.viewCount, p.createdAt, p.updatedAt, p.publishedAt) FROM BlogPost p ";
+    
+    @Query(SUMMARY)
+    Slice<BlogPostSummaryDto> findSummaries(Pageable pageable);
+    
+    @Query(SUMMARY + "WHERE p.status = :status")
+    Slice<BlogPostSummaryDto> findSummariesByStatus(@Param("status") BlogPost.PostStatus status, Pageable pageable);
+    
+    @Query(SUMMARY + "WHERE LOWER(p.author) LIKE LOWER(CONCAT('%', :author, '%'))")
+    Slice<BlogPostSummaryDto> findSummariesByAuthorContaining(@Param("author") String author, Pageable pageable);
+    
+    // Exact matches, so it can use idx_blog_post_author unlike the containing search
+    @Query(SUMMARY + "WHERE p.author IN :authors AND p.status = :status")
+    Slice<BlogPostSummaryDto> findSummariesByAuthorInAndStatus(@Param("authors") Collection<String> authors,
+                                                               @Param("status") BlogPost.PostStatus status, Pageable pageable);
+    
+    @Query(SUMMARY + "JOIN p.tags t WHERE t IN :tags AND p.status = :status")
+    Slice<BlogPostSummaryDto> findSummariesByTagsAndStatus(@Param("tags") List<String> tags,
+                                                           @Param("status") BlogPost.PostStatus status,
+                                                           Pageable pageable);
+    
+    // Keyset pagination in createdAt-desc, id-desc order: every call reads only the rows after the cursor,
+    // however deep, and never counts. Served by the (status, created_at, id) index.
+    @Query(SUMMARY + "WHERE p.status = :status "
+            + "AND p.createdAt <= :createdAt AND (p.createdAt < :createdAt OR p.id < :id) "
+            + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<BlogPostSummaryDto> findSummariesByStatusAfterCursor(@Param("status") BlogPost.PostStatus status,
+                                                              @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                                              Limit limit);
+    
+    // The author filter is a substring match, so this walks the (created_at, id) index and filters
+    @Query(SUMMARY + "WHERE LOWER(p.author) LIKE LOWER(CONCAT('%', :author, '%')) "
+            + "AND p.createdAt <= :createdAt AND (p.createdAt < :createdAt OR p.id < :id) "
+            + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<BlogPostSummaryDto> findSummariesByAuthorAfterCursor(@Param("author") String author,
+                                                              @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                                              Limit limit);
+    
+    @Query(SUMMARY + "WHERE p.status = :status "
+            + "AND p.id IN (SELECT tagged.id FROM BlogPost tagged JOIN tagged.tags t WHERE t IN :tags) "
+            + "AND p.createdAt <= :createdAt AND (p.createdAt < :createdAt OR p.id < :id) "
+            + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<BlogPostSummaryDto> findSummariesByTagsAndStatusAfterCursor(@Param("tags") List<String> tags,
+                                                                     @Param("status") BlogPost.PostStatus status,
+                                                                     @Param("createdAt") LocalDateTime createdAt,
+                                                                     @Param("id") Long id, Limit limit);
     
     // Complex queries with JPQL
     @Query("SELECT p FROM BlogPost p WHERE p.status = :status ORDER BY p.createdAt DESC")
     List<BlogPost> findPublishedPostsOrderByDate(@Param("status") BlogPost.PostStatus status);
     
-    @Query("SELECT p FROM BlogPost p WHERE " +
-           "(LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(p.content) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
-           "p.status = :status")
-    Page<BlogPost> searchPublishedPosts(@Param("keyword") String keyword, 
-                                       @Param("status") BlogPost.PostStatus status, 
-                                       Pageable pageable);
-    
     @Query("SELECT p FROM BlogPost p JOIN p.tags t WHERE t IN :tags AND p.status = :status")
     Page<BlogPost> findByTagsAndStatus(@Param("tags") List<String> tags, 
                                       @Param("status") BlogPost.PostStatus status, 
                                       Pageable pageable);
     
+    @Query("SELECT p.id, t FROM BlogPost p JOIN p.tags t WHERE p.id IN :ids")
+    List<Object[]> findTagsByPostIds(@Param("ids") Collection<Long> ids);
+    
+    @Query("SELECT p.id, p.contentFingerprint FROM BlogPost p")
+    List<Object[]> findContentFingerprints();
+    
+    @Query("SELECT p.slug FROM BlogPost p WHERE p.status = :status ORDER BY p.viewCount DESC")
+    List<String> findMostViewedSlugs(@Param("status") BlogPost.PostStatus status, Pageable pageable);
+    
     @Query("SELECT DISTINCT t FROM BlogPost p JOIN p.tags t WHERE p.status = :status")
     List<String> findAllTagsByStatus(@Param("status") BlogPost.PostStatus status);
     
     @Query("SELECT COUNT(p) FROM BlogPost p WHERE p.status = :status")
     long countByStatus(@Param("status") BlogPost.PostStatus status);
     
-    @Query("SELECT p.author, COUNT(p) FROM BlogPost p WHERE p.status = :status GROUP BY p.author")
-    List<Object[]> countPostsByAuthor(@Param("status") BlogPost.PostStatus status);
+    // Seeds for the admin dashboard counters
+    @Query("SELECT COALESCE(SUM(p.viewCount), 0) FROM BlogPost p")
+    long sumViewCounts();
+    
+    @Query("SELECT p.author, COUNT(p) FROM BlogPost p GROUP BY p.author")
+    List<Object[]> countGroupedByAuthor();
+    
+    // Position of a post within the createdAt-desc listing, used for targeted cache eviction
+    long countByStatusAndCreatedAtAfter(BlogPost.PostStatus status, LocalDateTime createdAt);
+    long countByStatusAndCreatedAtGreaterThanEqual(BlogPost.PostStatus status, LocalDateTime createdAt);
+    
+    // Analytics aggregates over posts created since a cut-off, computed by the database
+    @Query("SELECT COUNT(p), COALESCE(SUM(p.viewCount), 0), "
+            + "COALESCE(SUM(CASE WHEN p.viewCount > 500 THEN 1 ELSE 0 END), 0), "
+            + "COALESCE(SUM(CASE WHEN p.viewCount >= 100 AND p.viewCount <= 500 THEN 1 ELSE 0 END), 0) "
+            + "FROM BlogPost p WHERE p.status = :status AND p.createdAt >= :since")
+    List<Object[]> summarizeSince(@Param("status") BlogPost.PostStatus status, @Param("since") LocalDateTime since);
+    
+    @Query("SELECT p.id, p.slug, p.title, p.viewCount, SIZE(p.comments) FROM BlogPost p "
+            + "WHERE p.status = :status AND p.createdAt >= :since ORDER BY p.viewCount DESC, p.id DESC")
+    List<Object[]> findMostViewedSince(@Param("status") BlogPost.PostStatus status, @Param("since") LocalDateTime since,
+                                       Pageable pageable);
+    
+    @Query("SELECT p.author, COUNT(p), COALESCE(SUM(p.viewCount), 0) FROM BlogPost p "
+            + "WHERE p.status = :status AND p.createdAt >= :since "
+            + "GROUP BY p.author ORDER BY COALESCE(SUM(p.viewCount), 0) DESC, p.author")
+    List<Object[]> countPostsByAuthor(@Param("status") BlogPost.PostStatus status, @Param("since") LocalDateTime since,
+                                      Pageable pageable);
+    
+    @Query("SELECT t, COUNT(p), COALESCE(SUM(p.viewCount), 0) FROM BlogPost p JOIN p.tags t "
+            + "WHERE p.status = :status AND p.createdAt >= :since "
+            + "GROUP BY t ORDER BY COALESCE(SUM(p.viewCount), 0) DESC, t")
+    List<Object[]> countPostsByTag(@Param("status") BlogPost.PostStatus status, @Param("since") LocalDateTime since,
+                                   Pageable pageable);
+    
+    @Query("SELECT YEAR(p.createdAt), MONTH(p.createdAt), COUNT(p), COALESCE(SUM(p.viewCount), 0) FROM BlogPost p "
+            + "WHERE p.status = :status AND p.createdAt >= :since "
+            + "GROUP BY YEAR(p.createdAt), MONTH(p.createdAt)")
+    List<Object[]> countPostsByMonth(@Param("status") BlogPost.PostStatus status, @Param("since") LocalDateTime since);
 }
\ No newline at end of file
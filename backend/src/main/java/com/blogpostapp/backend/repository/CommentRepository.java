@@ -1,12 +1,17 @@
 package com.blogpostapp.backend.repository;
 
+import com.blogpostapp.backend.entity.BlogPost;
 import com.blogpostapp.backend.entity.Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -16,6 +21,47 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT COUNT(c) FROM Comment c WHERE c.blogPost.id = :blogPostId")
     long countByBlogPostId(@Param("blogPostId") Long blogPostId);
     
+    @Query("SELECT c.blogPost.id, COUNT(c) FROM Comment c WHERE c.blogPost.id IN :blogPostIds GROUP BY c.blogPost.id")
+    List<Object[]> countByBlogPostIds(@Param("blogPostIds") Collection<Long> blogPostIds);
+    
+    @Query("SELECT c.blogPost.id, COUNT(c) FROM Comment c GROUP BY c.blogPost.id")
+    List<Object[]> countGroupedByBlogPost();
+    
+    // Comment counts matching the BlogPostRepository analytics aggregates, by the post's status and creation date
+    @Query("SELECT COUNT(c) FROM Comment c WHERE c.blogPost.status = :status AND c.blogPost.createdAt >= :since")
+    long countByPostsSince(@Param("status") BlogPost.PostStatus status, @Param("since") LocalDateTime since);
+    
+    @Query("SELECT p.author, COUNT(c) FROM Comment c JOIN c.blogPost p "
+            + "WHERE p.status = :status AND p.createdAt >= :since AND p.author IN :authors GROUP BY p.author")
+    List<Object[]> countByPostAuthors(@Param("status") BlogPost.PostStatus status, @Param("since") LocalDateTime since,
+                                      @Param("authors") Collection<String> authors);
+    
+    @Query("SELECT t, COUNT(c) FROM Comment c JOIN c.blogPost p JOIN p.tags t "
+            + "WHERE p.status = :status AND p.createdAt >= :since AND t IN :tags GROUP BY t")
+    List<Object[]> countByPostTags(@Param("status") BlogPost.PostStatus status, @Param("since") LocalDateTime since,
+                                   @Param("tags") Collection<String> tags);
+    
+    @Query("SELECT YEAR(p.createdAt), MONTH(p.createdAt), COUNT(c) FROM Comment c JOIN c.blogPost p "
+            + "WHERE p.status = :status AND p.createdAt >= :since GROUP BY YEAR(p.createdAt), MONTH(p.createdAt)")
+    List<Object[]> countByPostMonths(@Param("status") BlogPost.PostStatus status, @Param("since") LocalDateTime since);
+    
     @Query("SELECT c FROM Comment c WHERE c.blogPost.id = :blogPostId ORDER BY c.createdAt DESC")
     Page<Comment> findByBlogPostIdOrderByCreatedAtDesc(@Param("blogPostId") Long blogPostId, Pageable pageable);
+    
+    // Keyset pagination over one post's comments, both served by the (blog_post_id, created_at, id) index:
+    // older than the cursor going back, and newer than it, oldest first, for polling
+    @Query("SELECT c FROM Comment c WHERE c.blogPost.id = :blogPostId "
+            + "AND c.createdAt <= :createdAt AND (c.createdAt < :createdAt OR c.id < :id) "
+            + "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findByBlogPostIdBeforeCursor(@Param("blogPostId") Long blogPostId,
+                                               @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+    
+    @Query("SELECT c FROM Comment c WHERE c.blogPost.id = :blogPostId AND c.createdAt >= :createdAt "
+            + "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findByBlogPostIdCreatedSince(@Param("blogPostId") Long blogPostId,
+                                               @Param("createdAt") LocalDateTime createdAt, Limit limit);
+    
+    @Query("SELECT c.id FROM Comment c WHERE c.blogPost.id = :blogPostId AND c.createdAt >= :createdAt")
+    List<Long> findIdsByBlogPostIdCreatedSince(@Param("blogPostId") Long blogPostId,
+                                               @Param("createdAt") LocalDateTime createdAt);
 }
@@ -0,0 +1,237 @@
+package com.blogpostapp.backend.search;
+
+import com.blogpostapp.backend.service.interfaces.ViewsFlushedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Read model of everyone who has published: post count, views, comments and latest post per author.
+// Posts come from the search index through IndexListener, views from flushed view counts and comments
+// from the comment write paths, so listing authors never scans the posts table. Authors are matched
+// case-insensitively and shown with the spelling of their latest post.
+@Component
+public class AuthorDirectory implements IndexListener {
+    
+    // Spellings holds every stored spelling of the name, for exact-match queries that find all the author's posts
+    public record AuthorStats(String name, long posts, long views, long comments,
+                              Long latestPostId, String latestPostSlug, String latestPostTitle, LocalDateTime latestPostAt,
+                              Set<String> spellings) {
+    }
+    
+    private record Post(Long postId, String author, String slug, String title, LocalDateTime publishedAt, long views) {
+    }
+    
+    private static final class Author {
+        private final Set<Long> postIds = new HashSet<>();
+        // Posts per stored spelling of the name
+        private final Map<String, Integer> spellings = new HashMap<>();
+        private long views;
+        private long comments;
+        private Post latest;
+    }
+    
+    // Orders posts by publication, then id; the greatest is an author's latest post
+    private static final Comparator<Post> LATEST = Comparator
+            .comparing(Post::publishedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(Post::postId);
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Author> authors = new HashMap<>();
+    private final Map<Long, Post> posts = new HashMap<>();
+    // For every post, published or not, so a post picks up its comments when it is published
+    private final Map<Long, Long> commentsByPost = new HashMap<>();
+    
+    @Autowired
+    public AuthorDirectory(PostSearchIndex postSearchIndex) {
+        postSearchIndex.addListener(this);
+    }
+    
+    @Override
+    public void postIndexed(IndexedPost previous, IndexedPost current) {
+        lock.writeLock().lock();
+        try {
+            // A re-indexed post keeps its live view count; the indexed one may predate flushes
+            Long views = previous != null ? remove(previous.postId()) : null;
+            if (current != null) {
+                add(current, views != null ? views : current.viewCount());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void indexRebuilt(Collection<IndexedPost> documents) {
+        lock.writeLock().lock();
+        try {
+            authors.clear();
+            posts.clear();
+            for (IndexedPost document : documents) {
+                add(document, document.viewCount());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @EventListener
+    public void viewsFlushed(ViewsFlushedEvent event) {
+        lock.writeLock().lock();
+        try {
+            event.viewsByPost().forEach((postId, views) -> {
+                Post post = posts.get(postId);
+                if (post != null) {
+                    Post updated = new Post(postId, post.author(), post.slug(), post.title(), post.publishedAt(), post.views() + views);
+                    posts.put(postId, updated);
+                    Author author = authors.get(key(post.author()));
+                    author.views += views;
+                    if (author.latest.postId().equals(postId)) {
+                        author.latest = updated;
+                    }
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    // Applies a change in a post's comment count once the transaction commits, like the index-driven updates
+    public void commentsChanged(Long postId, long delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addComments(postId, delta);
+                }
+            });
+        } else {
+            addComments(postId, delta);
+        }
+    }
+    
+    public void commentsLoaded(Map<Long, Long> counts) {
+        lock.writeLock().lock();
+        try {
+            commentsByPost.clear();
+            commentsByPost.putAll(counts);
+            for (Author author : authors.values()) {
+                author.comments = 0;
+                for (Long postId : author.postIds) {
+                    author.comments += commentsByPost.getOrDefault(postId, 0L);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public List<AuthorStats> all() {
+        lock.readLock().lock();
+        try {
+            List<AuthorStats> stats = new ArrayList<>(authors.size());
+            for (Author author : authors.values()) {
+                stats.add(stats(author));
+            }
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // Null when the author has no published posts
+    public AuthorStats find(String name) {
+        lock.readLock().lock();
+        try {
+            Author author = authors.get(key(name));
+            return author != null ? stats(author) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private void addComments(Long postId, long delta) {
+        lock.writeLock().lock();
+        try {
+            long count = commentsByPost.getOrDefault(postId, 0L) + delta;
+            if (count > 0) {
+                commentsByPost.put(postId, count);
+            } else {
+                commentsByPost.remove(postId);
+            }
+            Post post = posts.get(postId);
+            if (post != null) {
+                authors.get(key(post.author())).comments += delta;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private void add(IndexedPost document, long views) {
+        if (document.author() == null) {
+            return;
+        }
+        LocalDateTime publishedAt = document.publishedAt() != null ? document.publishedAt() : document.createdAt();
+        Post post = new Post(document.postId(), document.author(), document.slug(), document.title().text(), publishedAt, views);
+        posts.put(post.postId(), post);
+        Author author = authors.computeIfAbsent(key(post.author()), key -> new Author());
+        author.postIds.add(post.postId());
+        author.spellings.merge(post.author(), 1, Integer::sum);
+        author.views += post.views();
+        author.comments += commentsByPost.getOrDefault(post.postId(), 0L);
+        if (author.latest == null || LATEST.compare(post, author.latest) > 0) {
+            author.latest = post;
+        }
+    }
+    
+    // Returns the post's live view count, null if it was not listed
+    private Long remove(Long postId) {
+        Post post = posts.remove(postId);
+        if (post == null) {
+            return null;
+        }
+        String key = key(post.author());
+        Author author = authors.get(key);
+        author.postIds.remove(postId);
+        author.spellings.computeIfPresent(post.author(), (spelling, count) -> count > 1 ? count - 1 : null);
+        if (author.postIds.isEmpty()) {
+            authors.remove(key);
+            return post.views();
+        }
+        author.views -= post.views();
+        author.comments -= commentsByPost.getOrDefault(postId, 0L);
+        if (author.latest.postId().equals(postId)) {
+            author.latest = null;
+            for (Long otherId : author.postIds) {
+                Post other = posts.get(otherId);
+                if (author.latest == null || LATEST.compare(other, author.latest) > 0) {
+                    author.latest = other;
+                }
+            }
+        }
+        return post.views();
+    }
+    
+    private static AuthorStats stats(Author author) {
+        Post latest = author.latest;
+        return new AuthorStats(latest.author(), author.postIds.size(), author.views, author.comments,
+                latest.postId(), latest.slug(), latest.title(), latest.publishedAt(), Set.copyOf(author.spellings.keySet()));
+    }
+    
+    private static String key(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
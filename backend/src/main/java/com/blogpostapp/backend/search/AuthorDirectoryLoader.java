@@ -0,0 +1,35 @@
+package com.blogpostapp.backend.search;
+
+import com.blogpostapp.backend.repository.CommentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import java.util.HashMap;
+import java.util.Map;
+
+// Loads comment counts per post into the author directory on startup; its posts come with the search index
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class AuthorDirectoryLoader implements ApplicationRunner {
+    
+    private final CommentRepository commentRepository;
+    private final AuthorDirectory authorDirectory;
+    
+    @Autowired
+    public AuthorDirectoryLoader(CommentRepository commentRepository, AuthorDirectory authorDirectory) {
+        this.commentRepository = commentRepository;
+        this.authorDirectory = authorDirectory;
+    }
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : commentRepository.countGroupedByBlogPost()) {
+            counts.put((Long) row[0], (Long) row[1]);
+        }
+        authorDirectory.commentsLoaded(counts);
+    }
+}
@@ -0,0 +1,4 @@
+package com.blogpostapp.backend.search;
+
+public record FacetCount(String value, long count) {
+}
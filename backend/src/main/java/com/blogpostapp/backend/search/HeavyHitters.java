@@ -0,0 +1,81 @@
+package com.blogpostapp.backend.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+// Space-Saving sketch of the most frequent keys in an unbounded stream, in a fixed number of counters.
+// An unseen key takes over the smallest counter and inherits its count as an error bound, so a
+// reported count overestimates the true one by at most its error, and any key seen more than
+// total / capacity times is guaranteed to be tracked. Each key also keeps the latest value it was
+// added with, e.g. the query text behind a normalized query.
+final class HeavyHitters {
+    
+    record Entry(String key, String value, long count, long error) {
+    }
+    
+    private final int capacity;
+    private final Map<String, Counter> counters = new HashMap<>();
+    private final TreeSet<Counter> byCount = new TreeSet<>(Comparator.comparingLong((Counter counter) -> counter.count)
+            .thenComparingLong(counter -> counter.sequence));
+    private long sequence;
+    private long total;
+    
+    HeavyHitters(int capacity) {
+        this.capacity = Math.max(1, capacity);
+    }
+    
+    synchronized void add(String key, String value) {
+        total++;
+        Counter counter = counters.get(key);
+        if (counter == null) {
+            if (counters.size() < capacity) {
+                counter = new Counter(key, 0);
+            } else {
+                Counter smallest = byCount.pollFirst();
+                counters.remove(smallest.key);
+                counter = new Counter(key, smallest.count);
+                counter.count = smallest.count;
+            }
+            counters.put(key, counter);
+        } else {
+            byCount.remove(counter);
+        }
+        counter.count++;
+        counter.sequence = sequence++;
+        counter.value = value;
+        byCount.add(counter);
+    }
+    
+    synchronized List<Entry> top(int limit) {
+        List<Entry> top = new ArrayList<>(Math.min(limit, counters.size()));
+        for (Counter counter : byCount.descendingSet()) {
+            if (top.size() == limit) {
+                break;
+            }
+            top.add(new Entry(counter.key, counter.value, counter.count, counter.error));
+        }
+        return top;
+    }
+    
+    synchronized long total() {
+        return total;
+    }
+    
+    private static final class Counter {
+        
+        private final String key;
+        private final long error;
+        private long count;
+        private long sequence;
+        private String value;
+        
+        Counter(String key, long error) {
+            this.key = key;
+            this.error = error;
+        }
+    }
+}
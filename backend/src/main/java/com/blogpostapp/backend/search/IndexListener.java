@@ -0,0 +1,13 @@
+package com.blogpostapp.backend.search;
+
+import java.util.Collection;
+
+// Receives every change applied to PostSearchIndex, under its write lock, so derived in-memory
+// structures stay in step with the index. Only committed post writes ever reach the index.
+public interface IndexListener {
+    
+    // previous or current is null when the post enters or leaves the index
+    void postIndexed(IndexedPost previous, IndexedPost current);
+    
+    void indexRebuilt(Collection<IndexedPost> documents);
+}
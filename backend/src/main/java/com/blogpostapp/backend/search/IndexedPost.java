@@ -0,0 +1,47 @@
+package com.blogpostapp.backend.search;
+
+import com.blogpostapp.backend.entity.BlogPost;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// The analyzed form of one published post: its field-weighted term frequencies plus the stored
+// fields search needs to rank, filter and build snippets without going back to the database
+public record IndexedPost(Long postId, String slug, StoredField title, StoredField summary, StoredField content,
+                          String author, LocalDateTime createdAt, LocalDateTime publishedAt, Set<String> tags,
+                          long viewCount, Map<String, Float> termWeights, float length) {
+
+    static final float TITLE_WEIGHT = 3.0f;
+    static final float TAG_WEIGHT = 2.5f;
+    static final float SUMMARY_WEIGHT = 1.5f;
+    static final float CONTENT_WEIGHT = 1.0f;
+
+    public static IndexedPost of(BlogPost post, Collection<String> tags) {
+        Map<String, Float> termWeights = new HashMap<>();
+        List<TextAnalyzer.Token> titleTokens = TextAnalyzer.analyze(post.getTitle());
+        List<TextAnalyzer.Token> summaryTokens = TextAnalyzer.analyze(post.getSummary());
+        List<TextAnalyzer.Token> contentTokens = TextAnalyzer.analyze(post.getContent());
+        float length = addField(termWeights, titleTokens, TITLE_WEIGHT)
+                + addField(termWeights, summaryTokens, SUMMARY_WEIGHT)
+                + addField(termWeights, contentTokens, CONTENT_WEIGHT);
+        for (String tag : tags) {
+            length += addField(termWeights, TextAnalyzer.analyze(tag), TAG_WEIGHT);
+        }
+        return new IndexedPost(post.getId(), post.getSlug(),
+                StoredField.of(post.getTitle(), titleTokens),
+                StoredField.of(post.getSummary(), summaryTokens),
+                StoredField.of(post.getContent(), contentTokens),
+                post.getAuthor(), post.getCreatedAt(), post.getPublishedAt(), Set.copyOf(tags),
+                post.getViewCount() != null ? post.getViewCount() : 0L, termWeights, length);
+    }
+
+    private static float addField(Map<String, Float> termWeights, List<TextAnalyzer.Token> tokens, float weight) {
+        for (TextAnalyzer.Token token : tokens) {
+            termWeights.merge(token.term(), weight, Float::sum);
+        }
+        return tokens.size() * weight;
+    }
+}
@@ -0,0 +1,175 @@
+package com.blogpostapp.backend.search;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Content fingerprints of all posts, for finding posts within a few bits of each other. The 64 bits are
+// split into maxDistance + 1 blocks with one table per block; two fingerprints that differ in at most
+// maxDistance bits must agree on some whole block, so a lookup only compares against the posts sharing
+// a block value instead of against every post.
+@Component
+public class NearDuplicateIndex {
+    
+    public record Match(Long postId, int distance) {
+    }
+    
+    // postId is the newer post, duplicateOfId the older one it resembles
+    public record Pair(Long postId, Long duplicateOfId, int distance) {
+    }
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final int maxDistance;
+    // Bit offset where each block starts, plus 64 at the end
+    private final int[] blockStarts;
+    private final Map<Long, Set<Long>>[] tables;
+    private final Map<Long, Long> fingerprints = new HashMap<>();
+    
+    @Autowired
+    @SuppressWarnings("unchecked")
+    public NearDuplicateIndex(SearchProperties searchProperties) {
+        this.maxDistance = Math.max(0, Math.min(63, searchProperties.getDuplicates().getMaxDistance()));
+        int blocks = maxDistance + 1;
+        this.blockStarts = new int[blocks + 1];
+        this.tables = new Map[blocks];
+        for (int block = 0; block < blocks; block++) {
+            blockStarts[block] = block * 64 / blocks;
+            tables[block] = new HashMap<>();
+        }
+        blockStarts[blocks] = 64;
+    }
+    
+    // Returns the other posts the post's new fingerprint is a near-duplicate of, and records it, or removes
+    // the post when null, once the transaction commits; until then other readers keep seeing the old one
+    public List<Match> postChanged(Long postId, Long fingerprint) {
+        List<Match> matches = fingerprint != null ? find(fingerprint, postId) : List.of();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(postId, fingerprint);
+                }
+            });
+        } else {
+            put(postId, fingerprint);
+        }
+        return matches;
+    }
+    
+    // Returns the previous fingerprint
+    public Long put(Long postId, Long fingerprint) {
+        lock.writeLock().lock();
+        try {
+            Long previous = fingerprints.remove(postId);
+            if (previous != null) {
+                for (int block = 0; block < tables.length; block++) {
+                    Long key = block(previous, block);
+                    Set<Long> posts = tables[block].get(key);
+                    if (posts != null && posts.remove(postId) && posts.isEmpty()) {
+                        tables[block].remove(key);
+                    }
+                }
+            }
+            // Texts without any terms all hash to 0 and say nothing about each other
+            if (fingerprint != null && fingerprint != 0) {
+                fingerprints.put(postId, fingerprint);
+                for (int block = 0; block < tables.length; block++) {
+                    tables[block].computeIfAbsent(block(fingerprint, block), key -> new HashSet<>()).add(postId);
+                }
+            }
+            return previous;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void rebuild(Map<Long, Long> fingerprintsByPost) {
+        lock.writeLock().lock();
+        try {
+            fingerprints.clear();
+            for (Map<Long, Set<Long>> table : tables) {
+                table.clear();
+            }
+            fingerprintsByPost.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    // Posts within maxDistance bits of the fingerprint, closest first
+    public List<Match> find(long fingerprint, Long excludedPostId) {
+        lock.readLock().lock();
+        try {
+            return matches(fingerprint, excludedPostId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // Every pair of near-duplicate posts, closest and newest first
+    public List<Pair> report(int limit) {
+        List<Pair> pairs = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Map.Entry<Long, Long> post : fingerprints.entrySet()) {
+                for (Match match : matches(post.getValue(), post.getKey())) {
+                    // Each pair once, attributed to the newer post
+                    if (match.postId() < post.getKey()) {
+                        pairs.add(new Pair(post.getKey(), match.postId(), match.distance()));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        pairs.sort(Comparator.comparingInt(Pair::distance)
+                .thenComparing(Pair::postId, Comparator.reverseOrder())
+                .thenComparing(Pair::duplicateOfId));
+        return pairs.size() > limit ? pairs.subList(0, Math.max(0, limit)) : pairs;
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return fingerprints.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private List<Match> matches(long fingerprint, Long excludedPostId) {
+        Set<Long> seen = new HashSet<>();
+        List<Match> matches = new ArrayList<>();
+        for (int block = 0; block < tables.length; block++) {
+            Set<Long> posts = tables[block].get(block(fingerprint, block));
+            if (posts == null) {
+                continue;
+            }
+            for (Long postId : posts) {
+                if (!postId.equals(excludedPostId) && seen.add(postId)) {
+                    int distance = SimHash.distance(fingerprint, fingerprints.get(postId));
+                    if (distance <= maxDistance) {
+                        matches.add(new Match(postId, distance));
+                    }
+                }
+            }
+        }
+        matches.sort(Comparator.comparingInt(Match::distance).thenComparing(Match::postId));
+        return matches;
+    }
+    
+    private long block(long fingerprint, int block) {
+        int width = blockStarts[block + 1] - blockStarts[block];
+        long bits = fingerprint >>> blockStarts[block];
+        return width == 64 ? bits : bits & ((1L << width) - 1);
+    }
+}
@@ -0,0 +1,67 @@
+package com.blogpostapp.backend.search;
+
+import com.blogpostapp.backend.entity.BlogPost;
+import com.blogpostapp.backend.repository.BlogPostRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Loads content fingerprints into the near-duplicate index on startup, computing and storing them
+// first for posts written before the column existed or inserted without going through the service
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class NearDuplicateIndexLoader implements ApplicationRunner {
+    
+    private static final Logger logger = LoggerFactory.getLogger(NearDuplicateIndexLoader.class);
+    private static final int BATCH_SIZE = 500;
+    private static final String BACKFILL_SQL = "UPDATE blog_posts SET content_fingerprint = ? WHERE id = ?";
+    
+    private final BlogPostRepository blogPostRepository;
+    private final NearDuplicateIndex nearDuplicateIndex;
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    public NearDuplicateIndexLoader(BlogPostRepository blogPostRepository, NearDuplicateIndex nearDuplicateIndex,
+                                    JdbcTemplate jdbcTemplate) {
+        this.blogPostRepository = blogPostRepository;
+        this.nearDuplicateIndex = nearDuplicateIndex;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        Map<Long, Long> fingerprints = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Object[] row : blogPostRepository.findContentFingerprints()) {
+            if (row[1] != null) {
+                fingerprints.put((Long) row[0], (Long) row[1]);
+            } else {
+                missing.add((Long) row[0]);
+            }
+        }
+        for (int from = 0; from < missing.size(); from += BATCH_SIZE) {
+            List<Object[]> batch = new ArrayList<>();
+            for (BlogPost post : blogPostRepository.findAllById(missing.subList(from, Math.min(from + BATCH_SIZE, missing.size())))) {
+                long fingerprint = SimHash.fingerprint(post.getContent());
+                fingerprints.put(post.getId(), fingerprint);
+                batch.add(new Object[] { fingerprint, post.getId() });
+            }
+            jdbcTemplate.batchUpdate(BACKFILL_SQL, batch);
+        }
+        
+        nearDuplicateIndex.rebuild(fingerprints);
+        logger.info("Loaded {} content fingerprints ({} computed) in {} ms", fingerprints.size(), missing.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,511 @@
+package com.blogpostapp.backend.search;
+
+import com.blogpostapp.backend.entity.BlogPost;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory inverted index over published posts, ranked with BM25 on field-weighted term frequencies.
+// Queries are compiled into a plan that walks only the posting lists they name, rarest first.
+// When a query matches too few posts, misspelled terms are retried with close indexed terms.
+@Component
+public class PostSearchIndex {
+    
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // Weight factor per edit for a corrected term, so exact matches still rank first
+    private static final float CORRECTION_PENALTY = 0.8f;
+    private static final PostingList EMPTY = new PostingList();
+    
+    // Best first: higher score, then newer post, then higher id for a stable order
+    private static final Comparator<ScoredDoc> RANKING = Comparator
+            .comparingDouble(ScoredDoc::score).reversed()
+            .thenComparing(scored -> scored.document().createdAt(), Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(scored -> scored.document().postId(), Comparator.reverseOrder());
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    // Exact, lower-cased tag and author values for the tag: and author: filters
+    private final Map<String, PostingList> tagPostings = new HashMap<>();
+    private final Map<String, PostingList> authorPostings = new HashMap<>();
+    private final Map<Long, Integer> docIdsByPostId = new HashMap<>();
+    private final FacetDocValues facetDocValues = new FacetDocValues();
+    private final List<IndexListener> listeners = new CopyOnWriteArrayList<>();
+    private final TrigramIndex trigrams = new TrigramIndex();
+    private final SearchProperties.Fuzzy fuzzy;
+    // Key of the current transaction's uncommitted changes, see postChanged
+    private final Object pendingKey = new Object();
+    private IndexedPost[] docs = new IndexedPost[1024];
+    private int nextDocId;
+    private int liveDocs;
+    private double totalLength;
+    // Bumped on every change, so anything derived from a search can tell that it is out of date
+    private volatile long version;
+    
+    @Autowired
+    public PostSearchIndex(SearchProperties searchProperties) {
+        this.fuzzy = searchProperties.getFuzzy();
+    }
+    
+    // The indexed form is taken from the entity now, while its tags can still be loaded, but only applied once the
+    // transaction commits: nobody searches uncommitted posts and a rollback leaves the index untouched. That
+    // includes the writing transaction itself, whose searches still see the posts as they were before it.
+    public void postChanged(Long postId, BlogPost post) {
+        IndexedPost document = post != null && post.getStatus() == BlogPost.PostStatus.PUBLISHED
+                ? IndexedPost.of(post, post.getTags())
+                : null;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(postId, document);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Map<Long, IndexedPost> pending = (Map<Long, IndexedPost>) TransactionSynchronizationManager.getResource(pendingKey);
+        if (pending == null) {
+            Map<Long, IndexedPost> changes = new LinkedHashMap<>();
+            TransactionSynchronizationManager.bindResource(pendingKey, changes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    changes.forEach(PostSearchIndex.this::put);
+                }
+                
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(pendingKey);
+                }
+            });
+            pending = changes;
+        }
+        pending.put(postId, document);
+    }
+    
+    // Replaces the indexed form of a post, or removes it when document is null; returns the previous form
+    public IndexedPost put(Long postId, IndexedPost document) {
+        lock.writeLock().lock();
+        try {
+            Integer docId = docIdsByPostId.get(postId);
+            IndexedPost previous = docId != null ? docs[docId] : null;
+            if (previous != null) {
+                unindex(docId, previous);
+            }
+            if (document == null) {
+                docIdsByPostId.remove(postId);
+            } else {
+                if (docId == null) {
+                    docId = nextDocId++;
+                    docIdsByPostId.put(postId, docId);
+                }
+                index(docId, document);
+            }
+            if (previous != null || document != null) {
+                version++;
+                listeners.forEach(listener -> listener.postIndexed(previous, document));
+            }
+            return previous;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void rebuild(List<IndexedPost> documents) {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            tagPostings.clear();
+            authorPostings.clear();
+            trigrams.clear();
+            docIdsByPostId.clear();
+            facetDocValues.reset();
+            docs = new IndexedPost[Math.max(1024, documents.size())];
+            nextDocId = 0;
+            liveDocs = 0;
+            totalLength = 0;
+            for (IndexedPost document : documents) {
+                int docId = nextDocId++;
+                docIdsByPostId.put(document.postId(), docId);
+                index(docId, document);
+            }
+            version++;
+            listeners.forEach(listener -> listener.indexRebuilt(documents));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void addListener(IndexListener listener) {
+        listeners.add(listener);
+    }
+    
+    public long version() {
+        return version;
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // Query syntax is described in QueryParser; plain words must all match. Results are ordered by score, then newest first
+    public SearchHits search(String query, int offset, int limit) {
+        return search(query, offset, limit, 0);
+    }
+    
+    // Same as search, with up to maxSnippets highlighted fragments per hit cut from the stored offsets
+    public SearchHits search(String query, int offset, int limit, int maxSnippets) {
+        return search(query, offset, limit, maxSnippets, 0);
+    }
+    
+    // facetLimit > 0 also counts tags, authors and publication months over all matches, in the same pass
+    public SearchHits search(String query, int offset, int limit, int maxSnippets, int facetLimit) {
+        if (limit <= 0) {
+            return SearchHits.empty();
+        }
+        return page(rank(query, offset + limit, facetLimit), query, offset, limit, maxSnippets);
+    }
+    
+    // Ranks a query down to the ids of its best window matches
+    RankedQuery rank(String query, int window, int facetLimit) {
+        QueryNode node = QueryParser.parse(query);
+        lock.readLock().lock();
+        try {
+            if (node == null || window <= 0) {
+                return RankedQuery.empty(version);
+            }
+            Ranking ranking = new Plan(false).execute(node, window, facetLimit);
+            if (fuzzy.isEnabled() && ranking.total() < fuzzy.getMinHits()) {
+                Plan corrected = new Plan(true);
+                Ranking correctedRanking = corrected.execute(node, window, facetLimit);
+                if (corrected.expanded && correctedRanking.total() > ranking.total()) {
+                    ranking = correctedRanking;
+                }
+            }
+            List<Long> postIds = ranking.documents().stream().map(IndexedPost::postId).toList();
+            return new RankedQuery(version, ranking.total(), postIds, ranking.facets(), ranking.terms(), ranking.corrections());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // Cuts one page of hits out of a ranking; posts removed since it was ranked are skipped
+    SearchHits page(RankedQuery ranked, String query, int offset, int limit, int maxSnippets) {
+        List<Long> postIds = ranked.postIds();
+        List<IndexedPost> documents = new ArrayList<>(Math.min(limit, postIds.size()));
+        lock.readLock().lock();
+        try {
+            for (int i = offset; i < Math.min(offset + limit, postIds.size()); i++) {
+                Integer docId = docIdsByPostId.get(postIds.get(i));
+                if (docId != null) {
+                    documents.add(docs[docId]);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        
+        // Indexed documents are immutable, so snippets are built outside the lock
+        List<SearchHit> hits = new ArrayList<>(documents.size());
+        for (IndexedPost document : documents) {
+            hits.add(SearchHit.of(document, maxSnippets > 0 ? SnippetExtractor.extract(document, ranked.terms(), maxSnippets) : List.of()));
+        }
+        String correctedQuery = ranked.corrections().isEmpty() ? null : correct(query, ranked.corrections());
+        return new SearchHits(ranked.total(), hits, ranked.facets(), correctedQuery);
+    }
+    
+    // Rewrites the query with each unknown term replaced by its correction, leaving the rest as typed
+    private static String correct(String query, Map<String, String> corrections) {
+        List<QueryNode.Term> terms = new ArrayList<>();
+        collectTerms(QueryParser.parse(query), terms);
+        terms.sort(Comparator.comparingInt(QueryNode.Term::start));
+        StringBuilder corrected = new StringBuilder(query.length());
+        int last = 0;
+        for (QueryNode.Term term : terms) {
+            String replacement = corrections.get(term.term());
+            if (replacement != null) {
+                corrected.append(query, last, term.start()).append(replacement);
+                last = term.end();
+            }
+        }
+        return corrected.append(query, last, query.length()).toString();
+    }
+    
+    // Phrases, filters and excluded terms are never corrected
+    private static void collectTerms(QueryNode node, List<QueryNode.Term> terms) {
+        if (node instanceof QueryNode.Term term) {
+            terms.add(term);
+        } else if (node instanceof QueryNode.And and) {
+            and.clauses().forEach(clause -> collectTerms(clause, terms));
+        } else if (node instanceof QueryNode.Or or) {
+            or.clauses().forEach(clause -> collectTerms(clause, terms));
+        }
+    }
+    
+    // Scores the matches of a plan with BM25 over the plan's positive terms and keeps the best limit
+    private Ranking collect(int[] matches, List<PostingList> lists, int limit, int facetLimit) {
+        int n = lists.size();
+        double[] idf = new double[n];
+        for (int i = 0; i < n; i++) {
+            idf[i] = idf(lists.get(i).size());
+        }
+        double averageLength = liveDocs > 0 ? totalLength / liveDocs : 1;
+        
+        PriorityQueue<ScoredDoc> top = new PriorityQueue<>(Math.min(limit, 256), RANKING.reversed());
+        // Matches are ascending, so every list is walked once with a forward-only cursor
+        int[] cursors = new int[n];
+        FacetDocValues.Collector facets = facetLimit > 0 ? facetDocValues.newCollector() : null;
+        for (int doc : matches) {
+            if (facets != null) {
+                facets.collect(doc);
+            }
+            IndexedPost document = docs[doc];
+            double norm = K1 * (1 - B + B * document.length() / averageLength);
+            double score = 0;
+            for (int i = 0; i < n; i++) {
+                PostingList list = lists.get(i);
+                cursors[i] = list.advance(cursors[i], doc);
+                if (cursors[i] < list.size() && list.doc(cursors[i]) == doc) {
+                    double tf = list.weight(cursors[i]);
+                    score += idf[i] * tf * (K1 + 1) / (tf + norm);
+                }
+            }
+            ScoredDoc scored = new ScoredDoc(document, score);
+            if (top.size() < limit) {
+                top.add(scored);
+            } else if (RANKING.compare(scored, top.peek()) < 0) {
+                top.poll();
+                top.add(scored);
+            }
+        }
+        
+        ScoredDoc[] ranked = top.toArray(new ScoredDoc[0]);
+        Arrays.sort(ranked, RANKING);
+        List<IndexedPost> documents = new ArrayList<>(ranked.length);
+        for (ScoredDoc scored : ranked) {
+            documents.add(scored.document());
+        }
+        return new Ranking(matches.length, documents, facets != null ? facets.top(facetLimit) : Map.of(), Set.of(), Map.of());
+    }
+    
+    private int[] liveDocIds() {
+        int[] ids = new int[liveDocs];
+        int n = 0;
+        for (int docId = 0; docId < nextDocId && n < ids.length; docId++) {
+            if (docs[docId] != null) {
+                ids[n++] = docId;
+            }
+        }
+        return ids;
+    }
+    
+    // Binds a parsed query to the current postings. With corrections on, rare or unknown terms are OR-ed
+    // with indexed terms a few edits away. Positive terms are remembered for scoring and highlighting.
+    // Only used under the read lock.
+    private final class Plan {
+        
+        private final boolean corrections;
+        private final QueryStep.Universe universe = new QueryStep.Universe(liveDocs, PostSearchIndex.this::liveDocIds);
+        private final Map<String, PostingList> scored = new LinkedHashMap<>();
+        private final Set<String> terms = new LinkedHashSet<>();
+        private final Map<String, String> corrected = new HashMap<>();
+        private boolean expanded;
+        
+        Plan(boolean corrections) {
+            this.corrections = corrections;
+        }
+        
+        Ranking execute(QueryNode node, int limit, int facetLimit) {
+            QueryStep step = compile(node, false);
+            Ranking ranking = collect(step.all(), new ArrayList<>(scored.values()), limit, facetLimit);
+            return ranking.with(terms, corrected);
+        }
+        
+        private QueryStep compile(QueryNode node, boolean negated) {
+            return switch (node) {
+                case QueryNode.Term term -> QueryStep.postings(resolve(term, negated));
+                case QueryNode.Phrase phrase -> {
+                    List<PostingList> lists = new ArrayList<>(phrase.terms().size());
+                    for (String term : phrase.terms()) {
+                        PostingList list = postings.getOrDefault(term, EMPTY);
+                        lists.add(list);
+                        if (!negated) {
+                            scored.put(term, list);
+                            terms.add(term);
+                        }
+                    }
+                    yield QueryStep.phrase(lists, phrase.terms(), phrase.offsets(), doc -> docs[doc]);
+                }
+                case QueryNode.Tag tag -> QueryStep.postings(tagPostings.getOrDefault(tag.tag(), EMPTY));
+                case QueryNode.Author author -> {
+                    List<QueryStep> matches = new ArrayList<>();
+                    authorPostings.forEach((name, list) -> {
+                        if (name.contains(author.author())) {
+                            matches.add(QueryStep.postings(list));
+                        }
+                    });
+                    yield matches.isEmpty() ? QueryStep.postings(EMPTY) : QueryStep.or(matches);
+                }
+                case QueryNode.Published published -> QueryStep.matching(doc -> published.contains(docs[doc].publishedAt()), universe);
+                case QueryNode.And and -> {
+                    List<QueryStep> required = new ArrayList<>();
+                    List<QueryStep> excluded = new ArrayList<>();
+                    for (QueryNode clause : and.clauses()) {
+                        if (clause instanceof QueryNode.Not not) {
+                            excluded.add(compile(not.clause(), !negated));
+                        } else {
+                            required.add(compile(clause, negated));
+                        }
+                    }
+                    yield QueryStep.and(required, excluded, universe);
+                }
+                case QueryNode.Or or -> {
+                    List<QueryStep> clauses = new ArrayList<>(or.clauses().size());
+                    for (QueryNode clause : or.clauses()) {
+                        clauses.add(compile(clause, negated));
+                    }
+                    yield QueryStep.or(clauses);
+                }
+                case QueryNode.Not not -> QueryStep.and(List.of(), List.of(compile(not.clause(), !negated)), universe);
+            };
+        }
+        
+        private PostingList resolve(QueryNode.Term term, boolean negated) {
+            PostingList exact = postings.get(term.term());
+            if (negated) {
+                return exact != null ? exact : EMPTY;
+            }
+            List<TrigramIndex.Correction> candidates = !corrections || (exact != null && exact.size() >= fuzzy.getMinHits())
+                    ? List.of()
+                    : trigrams.corrections(term.term(), fuzzy.getMaxEdits(), fuzzy.getMaxCandidates(), fuzzy.getMaxExpansions());
+            terms.add(term.term());
+            if (candidates.isEmpty()) {
+                PostingList list = exact != null ? exact : EMPTY;
+                scored.put(term.term(), list);
+                return list;
+            }
+            
+            PostingList merged = new PostingList();
+            if (exact != null) {
+                merged.addAll(exact, 1f);
+            }
+            TrigramIndex.Correction best = null;
+            for (TrigramIndex.Correction candidate : candidates) {
+                PostingList list = postings.get(candidate.term());
+                merged.addAll(list, (float) Math.pow(CORRECTION_PENALTY, candidate.distance()));
+                terms.add(candidate.term());
+                // Among equally close spellings, suggest the one used by the most posts
+                if (best == null || candidate.distance() < best.distance()
+                        || (candidate.distance() == best.distance() && list.size() > postings.get(best.term()).size())) {
+                    best = candidate;
+                }
+            }
+            if (exact == null) {
+                corrected.put(term.term(), trigrams.surfaceForm(best.term()));
+            }
+            scored.put(term.term(), merged);
+            expanded = true;
+            return merged;
+        }
+    }
+    
+    private double idf(int docFrequency) {
+        return Math.log(1 + (liveDocs - docFrequency + 0.5) / (docFrequency + 0.5));
+    }
+    
+    private void index(int docId, IndexedPost document) {
+        if (docId >= docs.length) {
+            docs = Arrays.copyOf(docs, Math.max(docId + 1, docs.length * 2));
+        }
+        docs[docId] = document;
+        facetDocValues.set(docId, document);
+        for (Map.Entry<String, Float> entry : document.termWeights().entrySet()) {
+            PostingList list = postings.get(entry.getKey());
+            if (list == null) {
+                list = new PostingList();
+                postings.put(entry.getKey(), list);
+                trigrams.add(entry.getKey(), surfaceForm(document, entry.getKey()));
+            }
+            list.put(docId, entry.getValue());
+        }
+        for (String tag : document.tags()) {
+            tagPostings.computeIfAbsent(tag.toLowerCase(Locale.ROOT), key -> new PostingList()).put(docId, 1f);
+        }
+        if (document.author() != null) {
+            authorPostings.computeIfAbsent(document.author().toLowerCase(Locale.ROOT), key -> new PostingList()).put(docId, 1f);
+        }
+        liveDocs++;
+        totalLength += document.length();
+    }
+    
+    private void unindex(int docId, IndexedPost document) {
+        for (String term : document.termWeights().keySet()) {
+            PostingList list = postings.get(term);
+            if (list != null) {
+                list.remove(docId);
+                if (list.size() == 0) {
+                    postings.remove(term);
+                    trigrams.remove(term);
+                }
+            }
+        }
+        for (String tag : document.tags()) {
+            removeFrom(tagPostings, tag.toLowerCase(Locale.ROOT), docId);
+        }
+        if (document.author() != null) {
+            removeFrom(authorPostings, document.author().toLowerCase(Locale.ROOT), docId);
+        }
+        docs[docId] = null;
+        facetDocValues.clear(docId);
+        liveDocs--;
+        totalLength -= document.length();
+    }
+    
+    private static void removeFrom(Map<String, PostingList> postings, String key, int docId) {
+        PostingList list = postings.get(key);
+        if (list != null) {
+            list.remove(docId);
+            if (list.size() == 0) {
+                postings.remove(key);
+            }
+        }
+    }
+    
+    // The term as it was written in the post, e.g. "posts" for the stem "post"; tag-only terms keep their stem
+    private static String surfaceForm(IndexedPost document, String term) {
+        for (StoredField field : List.of(document.title(), document.summary(), document.content())) {
+            int[] occurrences = field.occurrencesOf(term);
+            if (occurrences.length > 0) {
+                return field.text().substring(occurrences[1], occurrences[2]).toLowerCase(Locale.ROOT);
+            }
+        }
+        return term;
+    }
+    
+    private record ScoredDoc(IndexedPost document, double score) {
+    }
+    
+    // terms are the indexed terms that matched, for highlighting; corrections map misspelled query terms to their fix
+    private record Ranking(long total, List<IndexedPost> documents, Map<String, List<FacetCount>> facets,
+                           Set<String> terms, Map<String, String> corrections) {
+        
+        Ranking with(Set<String> terms, Map<String, String> corrections) {
+            return new Ranking(total, documents, facets, terms, corrections);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.blogpostapp.backend.search;
+
+import java.util.Arrays;
+
+// Doc ids containing one term, kept sorted so lists can be intersected with a moving cursor,
+// alongside the field-weighted term frequency of each doc
+final class PostingList {
+    
+    private int[] docs = new int[4];
+    private float[] weights = new float[4];
+    private int size;
+    
+    int size() {
+        return size;
+    }
+    
+    int doc(int index) {
+        return docs[index];
+    }
+    
+    float weight(int index) {
+        return weights[index];
+    }
+    
+    void put(int doc, float weight) {
+        // New posts get the highest doc id, so this is an append in the common case
+        int index = size > 0 && docs[size - 1] < doc ? -(size + 1) : Arrays.binarySearch(docs, 0, size, doc);
+        if (index >= 0) {
+            weights[index] = weight;
+            return;
+        }
+        index = -(index + 1);
+        if (size == docs.length) {
+            docs = Arrays.copyOf(docs, size * 2);
+            weights = Arrays.copyOf(weights, size * 2);
+        }
+        System.arraycopy(docs, index, docs, index + 1, size - index);
+        System.arraycopy(weights, index, weights, index + 1, size - index);
+        docs[index] = doc;
+        weights[index] = weight;
+        size++;
+    }
+    
+    void remove(int doc) {
+        int index = Arrays.binarySearch(docs, 0, size, doc);
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(docs, index + 1, docs, index, size - index - 1);
+        System.arraycopy(weights, index + 1, weights, index, size - index - 1);
+        size--;
+    }
+    
+    // Smallest index >= from whose doc is >= target, or size; gallops so skipping far ahead stays logarithmic
+    int advance(int from, int target) {
+        if (from >= size || docs[from] >= target) {
+            return from;
+        }
+        int step = 1;
+        int low = from;
+        int high = from + 1;
+        while (high < size && docs[high] < target) {
+            low = high;
+            step <<= 1;
+            high = from + step;
+        }
+        int index = Arrays.binarySearch(docs, low + 1, Math.min(high, size - 1) + 1, target);
+        return index >= 0 ? index : -(index + 1);
+    }
+    
+    // Merges another list in, keeping the higher weight where both hold a doc; scale discounts the other list's weights
+    void addAll(PostingList other, float scale) {
+        int[] mergedDocs = new int[Math.max(4, size + other.size)];
+        float[] mergedWeights = new float[mergedDocs.length];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < size || j < other.size) {
+            if (j == other.size || (i < size && docs[i] < other.docs[j])) {
+                mergedDocs[n] = docs[i];
+                mergedWeights[n++] = weights[i++];
+            } else if (i == size || other.docs[j] < docs[i]) {
+                mergedDocs[n] = other.docs[j];
+                mergedWeights[n++] = other.weights[j++] * scale;
+            } else {
+                mergedDocs[n] = docs[i];
+                mergedWeights[n++] = Math.max(weights[i++], other.weights[j++] * scale);
+            }
+        }
+        docs = mergedDocs;
+        weights = mergedWeights;
+        size = n;
+    }
+}
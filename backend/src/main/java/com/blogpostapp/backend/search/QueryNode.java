@@ -0,0 +1,42 @@
+package com.blogpostapp.backend.search;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Parsed form of a search query, before it is bound to the index
+sealed interface QueryNode {
+    
+    // start and end locate the word in the query, so a corrected spelling can be put back in its place
+    record Term(String term, int start, int end) implements QueryNode {
+    }
+    
+    // offsets are the positions of the terms relative to the first one, counting dropped stop words
+    record Phrase(List<String> terms, List<Integer> offsets) implements QueryNode {
+    }
+    
+    record Tag(String tag) implements QueryNode {
+    }
+    
+    // Matches every author whose name contains the value, ignoring case
+    record Author(String author) implements QueryNode {
+    }
+    
+    // from is inclusive and until exclusive; either may be null for an open range
+    record Published(LocalDateTime from, LocalDateTime until) implements QueryNode {
+        
+        boolean contains(LocalDateTime publishedAt) {
+            return publishedAt != null
+                    && (from == null || !publishedAt.isBefore(from))
+                    && (until == null || publishedAt.isBefore(until));
+        }
+    }
+    
+    record And(List<QueryNode> clauses) implements QueryNode {
+    }
+    
+    record Or(List<QueryNode> clauses) implements QueryNode {
+    }
+    
+    record Not(QueryNode clause) implements QueryNode {
+    }
+}
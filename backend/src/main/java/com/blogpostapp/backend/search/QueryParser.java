@@ -0,0 +1,305 @@
+package com.blogpostapp.backend.search;
+
+import com.blogpostapp.backend.exception.BadRequestException;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// Parses the search box syntax:
+//   spring boot                       both terms (AND is implied)
+//   spring OR react                   either term
+//   spring NOT security, -security    excludes posts with the term
+//   "spring boot"                     the words next to each other, in that order
+//   tag:java  author:"Jane Smith"     field filters
+//   published:2024  published:2024-01..2024-06  published:2024-03-15..
+// Parentheses group; operators are upper case, NOT binds tighter than AND and AND tighter than OR.
+// Anything malformed is read leniently: an unclosed quote or parenthesis simply ends with the query.
+final class QueryParser {
+    
+    private final String query;
+    private int pos;
+    
+    private QueryParser(String query) {
+        this.query = query;
+    }
+    
+    // Null when the query has nothing searchable in it, e.g. only stop words
+    static QueryNode parse(String query) {
+        if (query == null) {
+            return null;
+        }
+        QueryParser parser = new QueryParser(query);
+        List<QueryNode> clauses = new ArrayList<>();
+        while (true) {
+            add(clauses, parser.parseOr());
+            parser.skipWhitespace();
+            if (parser.atEnd()) {
+                break;
+            }
+            // A stray closing parenthesis
+            parser.pos++;
+        }
+        return and(clauses);
+    }
+    
+    // Canonical text of a query, the same for queries that only differ in spacing, case, word forms
+    // or stop words, e.g. "Spring  Tests" and "spring test"; empty when there is nothing to search
+    static String normalize(String query) {
+        QueryNode node = parse(query);
+        if (node == null) {
+            return "";
+        }
+        StringBuilder text = new StringBuilder();
+        render(node, text);
+        return text.toString();
+    }
+
+    private static void render(QueryNode node, StringBuilder text) {
+        switch (node) {
+            case QueryNode.Term term -> text.append(term.term());
+            case QueryNode.Phrase phrase -> {
+                text.append('"');
+                for (int i = 0; i < phrase.terms().size(); i++) {
+                    if (i > 0) {
+                        // Dropped stop words keep their place, so "state of art" and "state art" stay apart
+                        text.append(" a".repeat(phrase.offsets().get(i) - phrase.offsets().get(i - 1) - 1)).append(' ');
+                    }
+                    text.append(phrase.terms().get(i));
+                }
+                text.append('"');
+            }
+            case QueryNode.Tag tag -> text.append("tag:\"").append(tag.tag()).append('"');
+            case QueryNode.Author author -> text.append("author:\"").append(author.author()).append('"');
+            case QueryNode.Published published -> text.append("published:")
+                    .append(published.from() != null ? published.from().toLocalDate() : "")
+                    .append("..")
+                    .append(published.until() != null ? published.until().toLocalDate().minusDays(1) : "");
+            case QueryNode.And and -> renderAll(and.clauses(), " AND ", text);
+            case QueryNode.Or or -> renderAll(or.clauses(), " OR ", text);
+            case QueryNode.Not not -> {
+                text.append("NOT ");
+                render(not.clause(), text);
+            }
+        }
+    }
+
+    private static void renderAll(List<QueryNode> clauses, String operator, StringBuilder text) {
+        text.append('(');
+        for (int i = 0; i < clauses.size(); i++) {
+            if (i > 0) {
+                text.append(operator);
+            }
+            render(clauses.get(i), text);
+        }
+        text.append(')');
+    }
+
+    private QueryNode parseOr() {
+        List<QueryNode> clauses = new ArrayList<>();
+        do {
+            add(clauses, parseAnd());
+        } while (acceptKeyword("OR"));
+        if (clauses.size() <= 1) {
+            return clauses.isEmpty() ? null : clauses.get(0);
+        }
+        return new QueryNode.Or(clauses);
+    }
+    
+    private QueryNode parseAnd() {
+        List<QueryNode> clauses = new ArrayList<>();
+        while (true) {
+            skipWhitespace();
+            if (atEnd() || peek() == ')' || atKeyword("OR")) {
+                return and(clauses);
+            }
+            if (!acceptKeyword("AND")) {
+                add(clauses, parseUnary());
+            }
+        }
+    }
+    
+    private QueryNode parseUnary() {
+        skipWhitespace();
+        if (acceptKeyword("NOT")) {
+            QueryNode clause = parseUnary();
+            return clause != null ? new QueryNode.Not(clause) : null;
+        }
+        if (!atEnd() && peek() == '-' && pos + 1 < query.length() && !Character.isWhitespace(query.charAt(pos + 1))) {
+            pos++;
+            QueryNode clause = parsePrimary();
+            return clause != null ? new QueryNode.Not(clause) : null;
+        }
+        return parsePrimary();
+    }
+    
+    private QueryNode parsePrimary() {
+        if (atEnd()) {
+            return null;
+        }
+        if (peek() == '(') {
+            pos++;
+            QueryNode group = parseOr();
+            skipWhitespace();
+            if (!atEnd() && peek() == ')') {
+                pos++;
+            }
+            return group;
+        }
+        if (peek() == '"') {
+            int start = pos + 1;
+            String phrase = quoted();
+            return text(phrase, start);
+        }
+        
+        int start = pos;
+        while (!atEnd() && !Character.isWhitespace(peek()) && peek() != '(' && peek() != ')' && peek() != '"') {
+            pos++;
+        }
+        String word = query.substring(start, pos);
+        int colon = word.indexOf(':');
+        if (colon > 0) {
+            String field = word.substring(0, colon).toLowerCase(Locale.ROOT);
+            if (field.equals("tag") || field.equals("author") || field.equals("published")) {
+                String value = word.substring(colon + 1);
+                if (value.isEmpty() && !atEnd() && peek() == '"') {
+                    value = quoted();
+                }
+                return field(field, value.trim());
+            }
+        }
+        if (start == pos) {
+            // A closing parenthesis right after NOT or '-', left for the enclosing group
+            return null;
+        }
+        return text(word, start);
+    }
+    
+    // A single word becomes a term and several become a phrase, so "spring-boot" matches the two words together
+    private static QueryNode text(String text, int offset) {
+        List<TextAnalyzer.Token> tokens = TextAnalyzer.analyze(text);
+        if (tokens.isEmpty()) {
+            return null;
+        }
+        if (tokens.size() == 1) {
+            TextAnalyzer.Token token = tokens.get(0);
+            return new QueryNode.Term(token.term(), offset + token.start(), offset + token.end());
+        }
+        List<String> terms = new ArrayList<>(tokens.size());
+        List<Integer> offsets = new ArrayList<>(tokens.size());
+        for (TextAnalyzer.Token token : tokens) {
+            terms.add(token.term());
+            offsets.add(token.position() - tokens.get(0).position());
+        }
+        return new QueryNode.Phrase(terms, offsets);
+    }
+    
+    private static QueryNode field(String field, String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        return switch (field) {
+            case "tag" -> new QueryNode.Tag(value.toLowerCase(Locale.ROOT));
+            case "author" -> new QueryNode.Author(value.toLowerCase(Locale.ROOT));
+            default -> published(value);
+        };
+    }
+    
+    // A single date covers its whole year, month or day; a range runs from the start of its first
+    // bound to the end of its second, and either side may be left open
+    private static QueryNode published(String value) {
+        int dots = value.indexOf("..");
+        if (dots < 0) {
+            LocalDate[] period = period(value);
+            return new QueryNode.Published(period[0].atStartOfDay(), period[1].atStartOfDay());
+        }
+        String from = value.substring(0, dots).trim();
+        String until = value.substring(dots + 2).trim();
+        if (from.isEmpty() && until.isEmpty()) {
+            return null;
+        }
+        return new QueryNode.Published(
+                from.isEmpty() ? null : period(from)[0].atStartOfDay(),
+                until.isEmpty() ? null : period(until)[1].atStartOfDay());
+    }
+    
+    // First day of the period and the day after it
+    private static LocalDate[] period(String date) {
+        try {
+            return switch (date.length()) {
+                case 4 -> {
+                    LocalDate start = Year.parse(date).atDay(1);
+                    yield new LocalDate[] { start, start.plusYears(1) };
+                }
+                case 7 -> {
+                    LocalDate start = YearMonth.parse(date).atDay(1);
+                    yield new LocalDate[] { start, start.plusMonths(1) };
+                }
+                default -> {
+                    LocalDate day = LocalDate.parse(date);
+                    yield new LocalDate[] { day, day.plusDays(1) };
+                }
+            };
+        } catch (DateTimeParseException ex) {
+            throw new BadRequestException("Invalid published date '" + date + "', expected YYYY, YYYY-MM or YYYY-MM-DD");
+        }
+    }
+    
+    private String quoted() {
+        pos++;
+        int start = pos;
+        while (!atEnd() && peek() != '"') {
+            pos++;
+        }
+        String text = query.substring(start, pos);
+        if (!atEnd()) {
+            pos++;
+        }
+        return text;
+    }
+    
+    private boolean atKeyword(String keyword) {
+        int end = pos + keyword.length();
+        return query.startsWith(keyword, pos)
+                && (end == query.length() || Character.isWhitespace(query.charAt(end)) || query.charAt(end) == '(' || query.charAt(end) == '"');
+    }
+    
+    private boolean acceptKeyword(String keyword) {
+        skipWhitespace();
+        if (atKeyword(keyword)) {
+            pos += keyword.length();
+            return true;
+        }
+        return false;
+    }
+    
+    private void skipWhitespace() {
+        while (!atEnd() && Character.isWhitespace(peek())) {
+            pos++;
+        }
+    }
+    
+    private boolean atEnd() {
+        return pos >= query.length();
+    }
+    
+    private char peek() {
+        return query.charAt(pos);
+    }
+    
+    private static void add(List<QueryNode> clauses, QueryNode clause) {
+        if (clause != null) {
+            clauses.add(clause);
+        }
+    }
+    
+    private static QueryNode and(List<QueryNode> clauses) {
+        if (clauses.size() <= 1) {
+            return clauses.isEmpty() ? null : clauses.get(0);
+        }
+        return new QueryNode.And(clauses);
+    }
+}
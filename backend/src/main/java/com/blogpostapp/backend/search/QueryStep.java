@@ -0,0 +1,326 @@
+package com.blogpostapp.backend.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+
+// One node of a compiled query plan. A step can list all of its matches or narrow down a set of
+// candidates, both as ascending doc ids, so an AND only materializes its cheapest input and every
+// other input just filters what is left. Guarded by the lock of PostSearchIndex.
+abstract class QueryStep {
+    
+    static final int[] NONE = new int[0];
+    
+    // Upper bound on the number of matches, used to order the inputs of an AND
+    abstract long cost();
+    
+    abstract int[] all();
+    
+    // The candidates that also match this step
+    abstract int[] filter(int[] candidates);
+    
+    static QueryStep postings(PostingList list) {
+        return new Postings(list);
+    }
+    
+    static QueryStep phrase(List<PostingList> lists, List<String> terms, List<Integer> offsets, IntFunction<IndexedPost> documents) {
+        return new Phrase(lists, terms, offsets, documents);
+    }
+    
+    // For filters without postings of their own, such as date ranges; they are checked doc by doc
+    static QueryStep matching(IntPredicate predicate, Universe universe) {
+        return new Matching(predicate, universe);
+    }
+    
+    static QueryStep and(List<QueryStep> required, List<QueryStep> excluded, Universe universe) {
+        return new And(required, excluded, universe);
+    }
+    
+    static QueryStep or(List<QueryStep> clauses) {
+        return clauses.size() == 1 ? clauses.get(0) : new Or(clauses);
+    }
+    
+    // All live docs, for steps that can only exclude or check one doc at a time
+    record Universe(long size, Supplier<int[]> docs) {
+    }
+    
+    private static final class Postings extends QueryStep {
+        
+        private final PostingList list;
+        
+        Postings(PostingList list) {
+            this.list = list;
+        }
+        
+        @Override
+        long cost() {
+            return list.size();
+        }
+        
+        @Override
+        int[] all() {
+            int[] docs = new int[list.size()];
+            for (int i = 0; i < docs.length; i++) {
+                docs[i] = list.doc(i);
+            }
+            return docs;
+        }
+        
+        @Override
+        int[] filter(int[] candidates) {
+            return intersect(candidates, list);
+        }
+    }
+    
+    private static final class Phrase extends QueryStep {
+        
+        private final List<PostingList> lists;
+        private final List<String> terms;
+        private final List<Integer> offsets;
+        private final IntFunction<IndexedPost> documents;
+        
+        Phrase(List<PostingList> lists, List<String> terms, List<Integer> offsets, IntFunction<IndexedPost> documents) {
+            this.lists = new ArrayList<>(lists);
+            this.lists.sort(Comparator.comparingInt(PostingList::size));
+            this.terms = terms;
+            this.offsets = offsets;
+            this.documents = documents;
+        }
+        
+        @Override
+        long cost() {
+            return lists.get(0).size();
+        }
+        
+        @Override
+        int[] all() {
+            return filter(new Postings(lists.get(0)).all());
+        }
+        
+        // Docs with every word first, then only those survivors are checked for the words being adjacent
+        @Override
+        int[] filter(int[] candidates) {
+            int[] docs = candidates;
+            for (int i = 0; i < lists.size() && docs.length > 0; i++) {
+                docs = intersect(docs, lists.get(i));
+            }
+            int n = 0;
+            int[] matches = new int[docs.length];
+            for (int doc : docs) {
+                IndexedPost document = documents.apply(doc);
+                if (contains(document.title()) || contains(document.summary()) || contains(document.content())) {
+                    matches[n++] = doc;
+                }
+            }
+            return trim(matches, n);
+        }
+        
+        private boolean contains(StoredField field) {
+            int[] first = field.occurrencesOf(terms.get(0));
+            candidates:
+            for (int k = 0; k < first.length; k += 3) {
+                for (int i = 1; i < terms.size(); i++) {
+                    if (!hasPosition(field.occurrencesOf(terms.get(i)), first[k] + offsets.get(i))) {
+                        continue candidates;
+                    }
+                }
+                return true;
+            }
+            return false;
+        }
+        
+        // Occurrences are [position, start, end] triples in text order, so positions can be binary searched
+        private static boolean hasPosition(int[] occurrences, int position) {
+            int low = 0;
+            int high = occurrences.length / 3 - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int value = occurrences[mid * 3];
+                if (value < position) {
+                    low = mid + 1;
+                } else if (value > position) {
+                    high = mid - 1;
+                } else {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+    
+    private static final class Matching extends QueryStep {
+        
+        private final IntPredicate predicate;
+        private final Universe universe;
+        
+        Matching(IntPredicate predicate, Universe universe) {
+            this.predicate = predicate;
+            this.universe = universe;
+        }
+        
+        @Override
+        long cost() {
+            return universe.size();
+        }
+        
+        @Override
+        int[] all() {
+            return filter(universe.docs().get());
+        }
+        
+        @Override
+        int[] filter(int[] candidates) {
+            int n = 0;
+            int[] matches = new int[candidates.length];
+            for (int doc : candidates) {
+                if (predicate.test(doc)) {
+                    matches[n++] = doc;
+                }
+            }
+            return trim(matches, n);
+        }
+    }
+    
+    // Required steps run cheapest first and excluded ones last, stopping as soon as nothing is left
+    private static final class And extends QueryStep {
+        
+        private final List<QueryStep> required;
+        private final List<QueryStep> excluded;
+        private final Universe universe;
+        
+        And(List<QueryStep> required, List<QueryStep> excluded, Universe universe) {
+            this.required = new ArrayList<>(required);
+            this.required.sort(Comparator.comparingLong(QueryStep::cost));
+            this.excluded = excluded;
+            this.universe = universe;
+        }
+        
+        @Override
+        long cost() {
+            return required.isEmpty() ? universe.size() : required.get(0).cost();
+        }
+        
+        @Override
+        int[] all() {
+            if (required.isEmpty()) {
+                return narrow(universe.docs().get(), 0);
+            }
+            return narrow(required.get(0).all(), 1);
+        }
+        
+        @Override
+        int[] filter(int[] candidates) {
+            return narrow(candidates, 0);
+        }
+        
+        private int[] narrow(int[] candidates, int from) {
+            int[] docs = candidates;
+            for (int i = from; i < required.size() && docs.length > 0; i++) {
+                docs = required.get(i).filter(docs);
+            }
+            for (int i = 0; i < excluded.size() && docs.length > 0; i++) {
+                docs = subtract(docs, excluded.get(i).filter(docs));
+            }
+            return docs;
+        }
+    }
+    
+    private static final class Or extends QueryStep {
+        
+        private final List<QueryStep> clauses;
+        
+        Or(List<QueryStep> clauses) {
+            this.clauses = clauses;
+        }
+        
+        @Override
+        long cost() {
+            long cost = 0;
+            for (QueryStep clause : clauses) {
+                cost += clause.cost();
+            }
+            return cost;
+        }
+        
+        @Override
+        int[] all() {
+            int[] docs = NONE;
+            for (QueryStep clause : clauses) {
+                docs = union(docs, clause.all());
+            }
+            return docs;
+        }
+        
+        @Override
+        int[] filter(int[] candidates) {
+            int[] docs = NONE;
+            for (int i = 0; i < clauses.size() && docs.length < candidates.length; i++) {
+                docs = union(docs, clauses.get(i).filter(candidates));
+            }
+            return docs;
+        }
+    }
+    
+    private static int[] intersect(int[] candidates, PostingList list) {
+        int n = 0;
+        int[] matches = new int[Math.min(candidates.length, list.size())];
+        int cursor = 0;
+        for (int doc : candidates) {
+            cursor = list.advance(cursor, doc);
+            if (cursor >= list.size()) {
+                break;
+            }
+            if (list.doc(cursor) == doc) {
+                matches[n++] = doc;
+            }
+        }
+        return trim(matches, n);
+    }
+    
+    private static int[] union(int[] a, int[] b) {
+        if (a.length == 0 || b.length == 0) {
+            return a.length == 0 ? b : a;
+        }
+        int[] merged = new int[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length || j < b.length) {
+            if (j == b.length || (i < a.length && a[i] < b[j])) {
+                merged[n++] = a[i++];
+            } else if (i == a.length || b[j] < a[i]) {
+                merged[n++] = b[j++];
+            } else {
+                merged[n++] = a[i++];
+                j++;
+            }
+        }
+        return trim(merged, n);
+    }
+    
+    // a without the docs in b, where b is a subset of a
+    private static int[] subtract(int[] a, int[] b) {
+        if (b.length == 0) {
+            return a;
+        }
+        int[] remaining = new int[a.length - b.length];
+        int j = 0;
+        int n = 0;
+        for (int doc : a) {
+            if (j < b.length && b[j] == doc) {
+                j++;
+            } else {
+                remaining[n++] = doc;
+            }
+        }
+        return remaining;
+    }
+    
+    private static int[] trim(int[] docs, int size) {
+        return size == docs.length ? docs : Arrays.copyOf(docs, size);
+    }
+}
@@ -0,0 +1,15 @@
+package com.blogpostapp.backend.search;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// The best matches of one query as post ids in rank order, with what paging through them later needs:
+// the index version they were ranked at, facet counts, the terms to highlight and any spelling fixes
+record RankedQuery(long version, long total, List<Long> postIds, Map<String, List<FacetCount>> facets,
+                   Set<String> terms, Map<String, String> corrections) {
+    
+    static RankedQuery empty(long version) {
+        return new RankedQuery(version, 0, List.of(), Map.of(), Set.of(), Map.of());
+    }
+}
@@ -0,0 +1,357 @@
+package com.blogpostapp.backend.search;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Precomputed "related posts" per published post, served from memory. Candidates come from MinHash
+// LSH over each post's terms and tags, plus posts sharing a not too common tag, so a write only
+// scores the changed post against its candidates instead of against every post. Candidates are
+// ranked by TF-IDF cosine of their term vectors blended with tag overlap.
+// Kept in step with the search index through IndexListener.
+@Component
+public class RelatedPostsIndex implements IndexListener {
+    
+    // 16 bands of 4 rows: posts about 45% alike collide in some band half the time, 70% alike almost always
+    private static final int BANDS = 16;
+    private static final int ROWS = 4;
+    private static final long[] SEEDS = new SplittableRandom(0x5EED).longs(BANDS * ROWS).toArray();
+    // Bounds the work per post; LSH buckets of near-identical boilerplate can get large
+    private static final int MAX_CANDIDATES = 200;
+    // A tag shared by more posts than this says too little to make them candidates on its own
+    private static final int MAX_TAG_FANOUT = 200;
+    private static final double CONTENT_WEIGHT = 0.7;
+    private static final double TAG_WEIGHT = 0.3;
+    // Best first, newer posts first on ties
+    private static final Comparator<Scored> BY_SCORE = Comparator.comparingDouble(Scored::score).reversed()
+            .thenComparing(Scored::postId, Comparator.reverseOrder());
+    
+    public record RelatedPost(Long postId, String slug, String title, String summary, Set<String> tags, double score) {
+    }
+    
+    private record Scored(Long postId, double score) {
+    }
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final int topK;
+    private final Map<Long, Entry> entries = new HashMap<>();
+    @SuppressWarnings("unchecked")
+    private final Map<Long, Set<Long>>[] buckets = new Map[BANDS];
+    private final Map<String, Set<Long>> postsByTag = new HashMap<>();
+    private final Map<String, Integer> documentFrequency = new HashMap<>();
+    private final Map<Long, List<Scored>> related = new HashMap<>();
+    // Which posts list a post as related, so removing it only revisits those
+    private final Map<Long, Set<Long>> listedBy = new HashMap<>();
+    
+    @Autowired
+    public RelatedPostsIndex(PostSearchIndex postSearchIndex, SearchProperties searchProperties) {
+        this.topK = searchProperties.getRelated().getTopK();
+        for (int band = 0; band < BANDS; band++) {
+            buckets[band] = new HashMap<>();
+        }
+        postSearchIndex.addListener(this);
+    }
+    
+    @Override
+    public void postIndexed(IndexedPost previous, IndexedPost current) {
+        lock.writeLock().lock();
+        try {
+            Set<Long> affected = new HashSet<>();
+            if (previous != null) {
+                affected.addAll(remove(previous.postId()));
+            }
+            if (current != null) {
+                Entry entry = add(current);
+                List<Scored> list = rank(entry);
+                setRelated(entry.postId(), list);
+                // The new post may now belong in the lists of its neighbours
+                for (Scored scored : list) {
+                    if (!affected.contains(scored.postId())) {
+                        offer(scored.postId(), new Scored(entry.postId(), scored.score()));
+                    }
+                }
+                affected.remove(entry.postId());
+            }
+            for (Long postId : affected) {
+                Entry entry = entries.get(postId);
+                if (entry != null) {
+                    setRelated(postId, rank(entry));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void indexRebuilt(Collection<IndexedPost> documents) {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            for (Map<Long, Set<Long>> bucket : buckets) {
+                bucket.clear();
+            }
+            postsByTag.clear();
+            documentFrequency.clear();
+            related.clear();
+            listedBy.clear();
+            for (IndexedPost document : documents) {
+                add(document);
+            }
+            // Norms taken while adding saw only part of the corpus
+            entries.replaceAll((postId, entry) -> entry.withNorm(norm(entry.document())));
+            for (Entry entry : entries.values()) {
+                setRelated(entry.postId(), rank(entry));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    // Null when the post is not a published post
+    public List<RelatedPost> related(Long postId, int limit) {
+        lock.readLock().lock();
+        try {
+            List<Scored> list = related.get(postId);
+            if (list == null) {
+                return null;
+            }
+            int count = Math.max(0, Math.min(limit, list.size()));
+            List<RelatedPost> posts = new ArrayList<>(count);
+            for (Scored scored : list.subList(0, count)) {
+                IndexedPost document = entries.get(scored.postId()).document();
+                posts.add(new RelatedPost(document.postId(), document.slug(), document.title().text(),
+                        document.summary().text().isEmpty() ? null : document.summary().text(), document.tags(), scored.score()));
+            }
+            return posts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private Entry add(IndexedPost document) {
+        Set<String> tags = new HashSet<>();
+        for (String tag : document.tags()) {
+            tags.add(tag.toLowerCase(Locale.ROOT));
+        }
+        for (String term : document.termWeights().keySet()) {
+            documentFrequency.merge(term, 1, Integer::sum);
+        }
+        long[] signature = signature(document.termWeights().keySet(), tags);
+        Entry entry = new Entry(document, tags, signature, 0);
+        // The post counts towards the corpus size its own idf weights are based on
+        entries.put(document.postId(), entry);
+        entry = entry.withNorm(norm(document));
+        entries.put(document.postId(), entry);
+        if (signature != null) {
+            for (int band = 0; band < BANDS; band++) {
+                buckets[band].computeIfAbsent(bandKey(signature, band), key -> new HashSet<>()).add(document.postId());
+            }
+        }
+        for (String tag : tags) {
+            postsByTag.computeIfAbsent(tag, key -> new HashSet<>()).add(document.postId());
+        }
+        return entry;
+    }
+    
+    // Takes a post out of every structure; returns the posts whose lists included it
+    private Set<Long> remove(Long postId) {
+        Entry entry = entries.remove(postId);
+        if (entry == null) {
+            return Set.of();
+        }
+        for (String term : entry.document().termWeights().keySet()) {
+            documentFrequency.computeIfPresent(term, (key, count) -> count > 1 ? count - 1 : null);
+        }
+        if (entry.signature() != null) {
+            for (int band = 0; band < BANDS; band++) {
+                removeFrom(buckets[band], bandKey(entry.signature(), band), postId);
+            }
+        }
+        for (String tag : entry.tags()) {
+            removeFrom(postsByTag, tag, postId);
+        }
+        setRelated(postId, List.of());
+        related.remove(postId);
+        Set<Long> affected = listedBy.remove(postId);
+        return affected != null ? affected : Set.of();
+    }
+    
+    // Best topK neighbours of a post among its LSH and shared-tag candidates
+    private List<Scored> rank(Entry entry) {
+        Map<Long, Integer> votes = new HashMap<>();
+        if (entry.signature() != null) {
+            for (int band = 0; band < BANDS; band++) {
+                Set<Long> bucket = buckets[band].get(bandKey(entry.signature(), band));
+                if (bucket != null) {
+                    bucket.forEach(postId -> votes.merge(postId, 1, Integer::sum));
+                }
+            }
+        }
+        for (String tag : entry.tags()) {
+            Set<Long> posts = postsByTag.get(tag);
+            if (posts != null && posts.size() <= MAX_TAG_FANOUT) {
+                posts.forEach(postId -> votes.merge(postId, 1, Integer::sum));
+            }
+        }
+        votes.remove(entry.postId());
+        
+        List<Map.Entry<Long, Integer>> candidates = new ArrayList<>(votes.entrySet());
+        if (candidates.size() > MAX_CANDIDATES) {
+            candidates.sort(Map.Entry.<Long, Integer>comparingByValue().reversed());
+            candidates = candidates.subList(0, MAX_CANDIDATES);
+        }
+        List<Scored> scored = new ArrayList<>(candidates.size());
+        for (Map.Entry<Long, Integer> candidate : candidates) {
+            double score = similarity(entry, entries.get(candidate.getKey()));
+            if (score > 0) {
+                scored.add(new Scored(candidate.getKey(), score));
+            }
+        }
+        scored.sort(BY_SCORE);
+        return scored.size() > topK ? new ArrayList<>(scored.subList(0, topK)) : scored;
+    }
+    
+    // Adds a neighbour to an existing list if it beats the weakest entry
+    private void offer(Long ownerId, Scored candidate) {
+        List<Scored> list = new ArrayList<>(related.getOrDefault(ownerId, List.of()));
+        list.removeIf(scored -> scored.postId().equals(candidate.postId()));
+        list.add(candidate);
+        list.sort(BY_SCORE);
+        setRelated(ownerId, list.size() > topK ? new ArrayList<>(list.subList(0, topK)) : list);
+    }
+    
+    private void setRelated(Long ownerId, List<Scored> list) {
+        List<Scored> previous = related.put(ownerId, list);
+        if (previous != null) {
+            for (Scored scored : previous) {
+                removeFrom(listedBy, scored.postId(), ownerId);
+            }
+        }
+        for (Scored scored : list) {
+            listedBy.computeIfAbsent(scored.postId(), key -> new HashSet<>()).add(ownerId);
+        }
+    }
+    
+    private double similarity(Entry a, Entry b) {
+        double content = 0;
+        if (a.norm() > 0 && b.norm() > 0) {
+            Map<String, Float> smaller = a.document().termWeights();
+            Map<String, Float> larger = b.document().termWeights();
+            if (smaller.size() > larger.size()) {
+                Map<String, Float> swap = smaller;
+                smaller = larger;
+                larger = swap;
+            }
+            double dot = 0;
+            for (Map.Entry<String, Float> term : smaller.entrySet()) {
+                Float other = larger.get(term.getKey());
+                if (other != null) {
+                    double idf = idf(term.getKey());
+                    dot += term.getValue() * idf * other * idf;
+                }
+            }
+            content = dot / (a.norm() * b.norm());
+        }
+        
+        double tags = 0;
+        if (!a.tags().isEmpty() && !b.tags().isEmpty()) {
+            int shared = 0;
+            for (String tag : a.tags()) {
+                if (b.tags().contains(tag)) {
+                    shared++;
+                }
+            }
+            tags = (double) shared / (a.tags().size() + b.tags().size() - shared);
+        }
+        return CONTENT_WEIGHT * content + TAG_WEIGHT * tags;
+    }
+    
+    // Norms use the document frequencies at the time the post was added; they drift a little as the
+    // corpus changes, which only nudges scores
+    private double norm(IndexedPost document) {
+        double sum = 0;
+        for (Map.Entry<String, Float> term : document.termWeights().entrySet()) {
+            double weight = term.getValue() * idf(term.getKey());
+            sum += weight * weight;
+        }
+        return Math.sqrt(sum);
+    }
+    
+    private double idf(String term) {
+        return Math.log(1 + (double) entries.size() / documentFrequency.getOrDefault(term, 1));
+    }
+    
+    // Null for posts without any terms or tags, which would otherwise all collide
+    private static long[] signature(Set<String> terms, Set<String> tags) {
+        if (terms.isEmpty() && tags.isEmpty()) {
+            return null;
+        }
+        long[] signature = new long[SEEDS.length];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (String term : terms) {
+            addShingle(signature, mix(term.hashCode()));
+        }
+        for (String tag : tags) {
+            addShingle(signature, mix(("#" + tag).hashCode()));
+        }
+        return signature;
+    }
+    
+    private static void addShingle(long[] signature, long hash) {
+        for (int i = 0; i < signature.length; i++) {
+            long value = mix(hash ^ SEEDS[i]);
+            if (value < signature[i]) {
+                signature[i] = value;
+            }
+        }
+    }
+    
+    private static long bandKey(long[] signature, int band) {
+        long key = band;
+        for (int row = 0; row < ROWS; row++) {
+            key = mix(key * 31 + signature[band * ROWS + row]);
+        }
+        return key;
+    }
+    
+    // SplitMix64 finalizer, spreads Java's 32-bit string hashes over 64 bits
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+    
+    private static <K> void removeFrom(Map<K, Set<Long>> map, K key, Long postId) {
+        Set<Long> set = map.get(key);
+        if (set != null) {
+            set.remove(postId);
+            if (set.isEmpty()) {
+                map.remove(key);
+            }
+        }
+    }
+    
+    private record Entry(IndexedPost document, Set<String> tags, long[] signature, double norm) {
+        
+        Long postId() {
+            return document.postId();
+        }
+        
+        Entry withNorm(double norm) {
+            return new Entry(document, tags, signature, norm);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.blogpostapp.backend.search;
+
+import java.util.List;
+
+// A ranked match served straight from the index; snippets are empty unless they were requested
+public record SearchHit(Long postId, String slug, String title, String summary, List<String> snippets) {
+    
+    static SearchHit of(IndexedPost document, List<String> snippets) {
+        String summary = document.summary().text().isEmpty() ? null : document.summary().text();
+        return new SearchHit(document.postId(), document.slug(), document.title().text(), summary, snippets);
+    }
+}
@@ -0,0 +1,25 @@
+package com.blogpostapp.backend.search;
+
+import java.util.List;
+import java.util.Map;
+
+// One page of ranked hits, the total number of matching posts and, when requested, facet counts over all of them.
+// correctedQuery is set when the hits come from typo-corrected terms, and null otherwise.
+public record SearchHits(long total, List<SearchHit> hits, Map<String, List<FacetCount>> facets, String correctedQuery) {
+    
+    public SearchHits(long total, List<SearchHit> hits) {
+        this(total, hits, Map.of());
+    }
+    
+    public SearchHits(long total, List<SearchHit> hits, Map<String, List<FacetCount>> facets) {
+        this(total, hits, facets, null);
+    }
+    
+    public static SearchHits empty() {
+        return new SearchHits(0, List.of());
+    }
+    
+    public List<Long> postIds() {
+        return hits.stream().map(SearchHit::postId).toList();
+    }
+}
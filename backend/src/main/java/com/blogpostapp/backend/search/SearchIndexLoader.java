@@ -0,0 +1,70 @@
+package com.blogpostapp.backend.search;
+
+import com.blogpostapp.backend.entity.BlogPost;
+import com.blogpostapp.backend.repository.BlogPostRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Builds the search index from the database on startup, after sample data and before the cache warm-up
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class SearchIndexLoader implements ApplicationRunner {
+    
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndexLoader.class);
+    private static final int BATCH_SIZE = 500;
+    
+    private final BlogPostRepository blogPostRepository;
+    private final PostSearchIndex postSearchIndex;
+    
+    @Autowired
+    public SearchIndexLoader(BlogPostRepository blogPostRepository, PostSearchIndex postSearchIndex) {
+        this.blogPostRepository = blogPostRepository;
+        this.postSearchIndex = postSearchIndex;
+    }
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        int indexed = rebuild();
+        logger.info("Indexed {} published posts for search in {} ms", indexed, (System.nanoTime() - start) / 1_000_000);
+    }
+    
+    public int rebuild() {
+        List<IndexedPost> documents = new ArrayList<>();
+        Page<BlogPost> batch;
+        int page = 0;
+        do {
+            batch = blogPostRepository.findByStatus(BlogPost.PostStatus.PUBLISHED,
+                    PageRequest.of(page++, BATCH_SIZE, Sort.by("id")));
+            // Tags come from one grouped query per batch instead of the lazy collection of each post
+            Map<Long, Set<String>> tagsByPost = new HashMap<>();
+            if (batch.hasContent()) {
+                List<Long> ids = batch.getContent().stream().map(BlogPost::getId).toList();
+                for (Object[] row : blogPostRepository.findTagsByPostIds(ids)) {
+                    tagsByPost.computeIfAbsent((Long) row[0], id -> new HashSet<>()).add((String) row[1]);
+                }
+            }
+            for (BlogPost post : batch) {
+                documents.add(IndexedPost.of(post, tagsByPost.getOrDefault(post.getId(), Set.of())));
+            }
+        } while (batch.hasNext());
+        
+        postSearchIndex.rebuild(documents);
+        return documents.size();
+    }
+}
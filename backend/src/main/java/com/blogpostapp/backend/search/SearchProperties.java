@@ -0,0 +1,90 @@
+package com.blogpostapp.backend.search;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.search")
+public class SearchProperties {
+    
+    private Fuzzy fuzzy = new Fuzzy();
+    private Cache cache = new Cache();
+    private Related related = new Related();
+    private Duplicates duplicates = new Duplicates();
+    
+    public Fuzzy getFuzzy() { return fuzzy; }
+    public void setFuzzy(Fuzzy fuzzy) { this.fuzzy = fuzzy; }
+    
+    public Cache getCache() { return cache; }
+    public void setCache(Cache cache) { this.cache = cache; }
+    
+    public Related getRelated() { return related; }
+    public void setRelated(Related related) { this.related = related; }
+    
+    public Duplicates getDuplicates() { return duplicates; }
+    public void setDuplicates(Duplicates duplicates) { this.duplicates = duplicates; }
+    
+    public static class Fuzzy {
+        private boolean enabled = true;
+        // Typo correction only kicks in when the exact query matches fewer posts than this
+        private int minHits = 3;
+        // Upper bound on edits per term; short terms get fewer regardless
+        private int maxEdits = 2;
+        // Trigram shortlist size per term that is checked with the edit distance
+        private int maxCandidates = 50;
+        // Corrected spellings OR-ed in for each term
+        private int maxExpansions = 3;
+        
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+        
+        public int getMinHits() { return minHits; }
+        public void setMinHits(int minHits) { this.minHits = minHits; }
+        
+        public int getMaxEdits() { return maxEdits; }
+        public void setMaxEdits(int maxEdits) { this.maxEdits = maxEdits; }
+        
+        public int getMaxCandidates() { return maxCandidates; }
+        public void setMaxCandidates(int maxCandidates) { this.maxCandidates = maxCandidates; }
+        
+        public int getMaxExpansions() { return maxExpansions; }
+        public void setMaxExpansions(int maxExpansions) { this.maxExpansions = maxExpansions; }
+    }
+    
+    public static class Cache {
+        private boolean enabled = true;
+        // Distinct normalized queries whose rankings are kept
+        private int maxEntries = 1000;
+        // Ranked ids kept per query; pages past this are ranked on demand
+        private int window = 100;
+        // Counters in the popular-queries sketch; more counters mean tighter counts for rarer queries
+        private int trackedQueries = 200;
+        
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+        
+        public int getMaxEntries() { return maxEntries; }
+        public void setMaxEntries(int maxEntries) { this.maxEntries = maxEntries; }
+        
+        public int getWindow() { return window; }
+        public void setWindow(int window) { this.window = window; }
+        
+        public int getTrackedQueries() { return trackedQueries; }
+        public void setTrackedQueries(int trackedQueries) { this.trackedQueries = trackedQueries; }
+    }
+    
+    public static class Related {
+        // Related posts precomputed per post; requests can ask for fewer
+        private int topK = 10;
+        
+        public int getTopK() { return topK; }
+        public void setTopK(int topK) { this.topK = topK; }
+    }
+    
+    public static class Duplicates {
+        // Posts whose content fingerprints differ in at most this many of 64 bits count as near-duplicates;
+        // a one-word edit of a short post moves it 3 to 6 bits, unrelated posts are around 32 apart
+        private int maxDistance = 6;
+        
+        public int getMaxDistance() { return maxDistance; }
+        public void setMaxDistance(int maxDistance) { this.maxDistance = maxDistance; }
+    }
+}
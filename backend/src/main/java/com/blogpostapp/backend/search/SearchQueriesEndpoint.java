@@ -0,0 +1,40 @@
+package com.blogpostapp.backend.search;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// /actuator/searchqueries lists the most searched normalized queries with their counts; a POST ranks
+// the top ones ahead of time so their first page is served from the search result cache
+@Component
+@Endpoint(id = "searchqueries")
+public class SearchQueriesEndpoint {
+    
+    private static final int DEFAULT_LIMIT = 20;
+    
+    private final SearchResultCache searchResultCache;
+    
+    @Autowired
+    public SearchQueriesEndpoint(SearchResultCache searchResultCache) {
+        this.searchResultCache = searchResultCache;
+    }
+    
+    @ReadOperation
+    public Map<String, Object> popularQueries(@Nullable Integer limit) {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("searches", searchResultCache.searchCount());
+        details.put("cachedQueries", searchResultCache.size());
+        details.put("top", searchResultCache.popularQueries(limit != null ? limit : DEFAULT_LIMIT));
+        return details;
+    }
+    
+    @WriteOperation
+    public Map<String, Object> warm(@Nullable Integer count) {
+        return Map.of("warmed", searchResultCache.warm(count != null ? count : DEFAULT_LIMIT));
+    }
+}
@@ -0,0 +1,107 @@
+package com.blogpostapp.backend.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import java.util.List;
+
+// Keeps the ranked post ids of recent queries, keyed by normalized query, so repeated searches and
+// paging through results skip ranking. Entries remember the index version they were ranked at and
+// are recomputed once a write has bumped it. Also counts queries in a heavy-hitters sketch to show
+// what users search for most.
+@Component
+public class SearchResultCache {
+    
+    private final PostSearchIndex postSearchIndex;
+    private final SearchProperties.Cache properties;
+    private final Cache<Key, RankedQuery> rankings;
+    private final HeavyHitters popularQueries;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter bypassed;
+    
+    public record PopularQuery(String query, long count, long maxOvercount) {
+    }
+    
+    private record Key(String query, int facetLimit) {
+    }
+    
+    @Autowired
+    public SearchResultCache(PostSearchIndex postSearchIndex, SearchProperties searchProperties, MeterRegistry meterRegistry) {
+        this.postSearchIndex = postSearchIndex;
+        this.properties = searchProperties.getCache();
+        this.rankings = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .build();
+        this.popularQueries = new HeavyHitters(properties.getTrackedQueries());
+        this.hits = requestCounter("hit", meterRegistry);
+        this.misses = requestCounter("miss", meterRegistry);
+        this.bypassed = requestCounter("bypass", meterRegistry);
+        Gauge.builder("search.cache.size", rankings, Cache::estimatedSize)
+                .description("Queries with a cached ranking")
+                .register(meterRegistry);
+    }
+    
+    private static Counter requestCounter(String result, MeterRegistry meterRegistry) {
+        return Counter.builder("search.cache.requests")
+                .description("Searches by whether their ranking came from the cache")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+    
+    // Same contract as PostSearchIndex.search
+    public SearchHits search(String query, int offset, int limit, int maxSnippets, int facetLimit) {
+        String normalized = QueryParser.normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return SearchHits.empty();
+        }
+        popularQueries.add(normalized, query);
+        // Deep pages are rare and would need a much longer ranking, so they go straight to the index
+        if (!properties.isEnabled() || offset + limit > properties.getWindow()) {
+            bypassed.increment();
+            return postSearchIndex.search(query, offset, limit, maxSnippets, facetLimit);
+        }
+        return postSearchIndex.page(ranking(new Key(normalized, facetLimit), query), query, offset, limit, maxSnippets);
+    }
+    
+    // Most searched normalized queries, most frequent first
+    public List<PopularQuery> popularQueries(int limit) {
+        return popularQueries.top(limit).stream()
+                .map(entry -> new PopularQuery(entry.key(), entry.count(), entry.error()))
+                .toList();
+    }
+    
+    public long searchCount() {
+        return popularQueries.total();
+    }
+    
+    public long size() {
+        return rankings.estimatedSize();
+    }
+    
+    // Ranks the most popular queries ahead of time. The normalized key is stemmed and stemming again
+    // may change it, so the query text last searched under that key is ranked instead.
+    public int warm(int count) {
+        List<HeavyHitters.Entry> top = popularQueries.top(count);
+        for (HeavyHitters.Entry entry : top) {
+            ranking(new Key(entry.key(), 0), entry.value());
+        }
+        return top.size();
+    }
+    
+    private RankedQuery ranking(Key key, String query) {
+        RankedQuery cached = rankings.getIfPresent(key);
+        if (cached != null && cached.version() == postSearchIndex.version()) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        RankedQuery ranked = postSearchIndex.rank(query, properties.getWindow(), key.facetLimit());
+        rankings.put(key, ranked);
+        return ranked;
+    }
+}
@@ -0,0 +1,66 @@
+package com.blogpostapp.backend.search;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 64-bit SimHash of a text: every feature votes on each bit with its hash, weighted by how often it
+// occurs, so texts sharing most of their features end up a few bits apart. Features are pairs of
+// adjacent analyzed terms, so word order counts but a single edited word only touches two features.
+public final class SimHash {
+    
+    private static final int SHINGLE = 2;
+    private static final long FNV_OFFSET = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+    
+    private SimHash() {
+    }
+    
+    // 0 when the text has no terms
+    public static long fingerprint(String text) {
+        List<TextAnalyzer.Token> tokens = TextAnalyzer.analyze(text);
+        if (tokens.isEmpty()) {
+            return 0;
+        }
+        Map<String, Integer> features = new HashMap<>();
+        int size = Math.min(SHINGLE, tokens.size());
+        for (int i = 0; i + size <= tokens.size(); i++) {
+            StringBuilder shingle = new StringBuilder(tokens.get(i).term());
+            for (int j = 1; j < size; j++) {
+                shingle.append(' ').append(tokens.get(i + j).term());
+            }
+            features.merge(shingle.toString(), 1, Integer::sum);
+        }
+        
+        int[] votes = new int[64];
+        for (Map.Entry<String, Integer> feature : features.entrySet()) {
+            long hash = hash(feature.getKey());
+            for (int bit = 0; bit < 64; bit++) {
+                votes[bit] += (hash >>> bit & 1) != 0 ? feature.getValue() : -feature.getValue();
+            }
+        }
+        long fingerprint = 0;
+        for (int bit = 0; bit < 64; bit++) {
+            if (votes[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+    
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+    
+    // FNV-1a, then a SplitMix64 finalizer so similar shingles do not share bit patterns
+    private static long hash(String feature) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < feature.length(); i++) {
+            hash ^= feature.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+}
@@ -0,0 +1,184 @@
+package com.blogpostapp.backend.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+// Cuts short fragments around matched terms using the offsets stored at index time. The work and the
+// output size depend on the number of matches and the fragment length, never on the length of the post.
+public final class SnippetExtractor {
+    
+    static final int FRAGMENT_LENGTH = 160;
+    private static final int LEADING_CONTEXT = 40;
+    private static final int BOUNDARY_SCAN = 20;
+    private static final int MAX_OCCURRENCES = 512;
+    
+    private SnippetExtractor() {
+    }
+    
+    // Fragments are HTML-escaped with matches wrapped in <mark>; falls back to the summary, then the opening of the post
+    public static List<String> extract(IndexedPost document, Collection<String> terms, int maxSnippets) {
+        List<String> snippets = fragments(document.content(), terms, maxSnippets);
+        if (snippets.isEmpty()) {
+            snippets = fragments(document.summary(), terms, 1);
+        }
+        if (snippets.isEmpty() && !document.content().text().isEmpty()) {
+            snippets = List.of(render(document.content().text(), 0, List.of()));
+        }
+        return snippets;
+    }
+    
+    static List<String> fragments(StoredField field, Collection<String> terms, int maxSnippets) {
+        List<int[]> occurrences = new ArrayList<>();
+        int termIndex = 0;
+        int perTerm = MAX_OCCURRENCES / Math.max(1, terms.size());
+        for (String term : terms) {
+            int[] triples = field.occurrencesOf(term);
+            for (int i = 0; i < triples.length && i / 3 < perTerm; i += 3) {
+                occurrences.add(new int[]{triples[i + 1], triples[i + 2], termIndex});
+            }
+            termIndex++;
+        }
+        if (occurrences.isEmpty()) {
+            return List.of();
+        }
+        occurrences.sort(Comparator.comparingInt(occurrence -> occurrence[0]));
+        
+        List<int[]> windows = new ArrayList<>();
+        while (windows.size() < maxSnippets && !occurrences.isEmpty()) {
+            int[] best = bestWindow(occurrences, terms.size());
+            windows.add(best);
+            // Drop what the chosen window covers so the next fragment shows other matches
+            occurrences.removeIf(occurrence -> occurrence[0] >= best[0] && occurrence[1] <= best[1]);
+        }
+        windows.sort(Comparator.comparingInt(window -> window[0]));
+        
+        List<String> snippets = new ArrayList<>(windows.size());
+        for (int[] window : windows) {
+            snippets.add(render(field.text(), window[0], highlightsIn(field, terms, window)));
+        }
+        return snippets;
+    }
+    
+    // Slides over the sorted matches and keeps the span with the most distinct terms, then the most matches
+    private static int[] bestWindow(List<int[]> occurrences, int termCount) {
+        int[] termHits = new int[termCount];
+        int distinct = 0;
+        int bestFrom = 0;
+        int bestTo = 0;
+        int bestScore = -1;
+        int to = 0;
+        for (int from = 0; from < occurrences.size(); from++) {
+            int limit = occurrences.get(from)[0] + FRAGMENT_LENGTH - LEADING_CONTEXT;
+            while (to < occurrences.size() && occurrences.get(to)[1] <= limit) {
+                if (termHits[occurrences.get(to)[2]]++ == 0) {
+                    distinct++;
+                }
+                to++;
+            }
+            int score = distinct * MAX_OCCURRENCES + (to - from);
+            if (score > bestScore) {
+                bestScore = score;
+                bestFrom = from;
+                bestTo = to;
+            }
+            if (to > from && --termHits[occurrences.get(from)[2]] == 0) {
+                distinct--;
+            }
+            to = Math.max(to, from + 1);
+        }
+        return new int[]{occurrences.get(bestFrom)[0], occurrences.get(Math.max(bestFrom, bestTo - 1))[1]};
+    }
+    
+    private static List<int[]> highlightsIn(StoredField field, Collection<String> terms, int[] window) {
+        List<int[]> highlights = new ArrayList<>();
+        int[] bounds = bounds(field.text(), window[0]);
+        for (String term : terms) {
+            int[] triples = field.occurrencesOf(term);
+            for (int i = firstStartingAt(triples, bounds[0]); i < triples.length && triples[i + 1] < bounds[1]; i += 3) {
+                if (triples[i + 2] <= bounds[1]) {
+                    highlights.add(new int[]{triples[i + 1], triples[i + 2]});
+                }
+            }
+        }
+        highlights.sort(Comparator.comparingInt(highlight -> highlight[0]));
+        return highlights;
+    }
+    
+    // Occurrences are stored in text order, so the first one inside the fragment is found by binary search
+    private static int firstStartingAt(int[] triples, int offset) {
+        int low = 0;
+        int high = triples.length / 3;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (triples[mid * 3 + 1] < offset) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low * 3;
+    }
+    
+    // Fragment bounds around a first match, nudged to whitespace so words are not cut in half
+    private static int[] bounds(String text, int firstMatch) {
+        int start = Math.max(0, firstMatch - LEADING_CONTEXT);
+        if (start > 0) {
+            for (int i = start; i < Math.min(firstMatch, start + BOUNDARY_SCAN); i++) {
+                if (Character.isWhitespace(text.charAt(i))) {
+                    start = i + 1;
+                    break;
+                }
+            }
+        }
+        int end = Math.min(text.length(), start + FRAGMENT_LENGTH);
+        if (end < text.length()) {
+            for (int i = end; i > Math.max(start, end - BOUNDARY_SCAN); i--) {
+                if (Character.isWhitespace(text.charAt(i))) {
+                    end = i;
+                    break;
+                }
+            }
+        }
+        return new int[]{start, end};
+    }
+    
+    private static String render(String text, int firstMatch, List<int[]> highlights) {
+        int[] bounds = bounds(text, firstMatch);
+        StringBuilder snippet = new StringBuilder(FRAGMENT_LENGTH + 32);
+        if (bounds[0] > 0) {
+            snippet.append('…');
+        }
+        int cursor = bounds[0];
+        for (int[] highlight : highlights) {
+            if (highlight[0] < cursor) {
+                continue;
+            }
+            escape(text, cursor, highlight[0], snippet);
+            snippet.append("<mark>");
+            escape(text, highlight[0], highlight[1], snippet);
+            snippet.append("</mark>");
+            cursor = highlight[1];
+        }
+        escape(text, cursor, bounds[1], snippet);
+        if (bounds[1] < text.length()) {
+            snippet.append('…');
+        }
+        return snippet.toString();
+    }
+    
+    private static void escape(String text, int from, int to, StringBuilder out) {
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.blogpostapp.backend.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Original text of an indexed field plus where each term occurs in it, stored as flat
+// [position, start, end] triples so snippets and phrases never need to re-tokenize the text
+public record StoredField(String text, Map<String, int[]> occurrences) {
+    
+    static final StoredField EMPTY = new StoredField("", Map.of());
+    
+    static StoredField of(String text, List<TextAnalyzer.Token> tokens) {
+        if (text == null || tokens.isEmpty()) {
+            return text == null ? EMPTY : new StoredField(text, Map.of());
+        }
+        Map<String, List<TextAnalyzer.Token>> byTerm = new HashMap<>();
+        for (TextAnalyzer.Token token : tokens) {
+            byTerm.computeIfAbsent(token.term(), term -> new ArrayList<>()).add(token);
+        }
+        Map<String, int[]> occurrences = new HashMap<>(byTerm.size() * 2);
+        byTerm.forEach((term, termTokens) -> {
+            int[] triples = new int[termTokens.size() * 3];
+            for (int i = 0; i < termTokens.size(); i++) {
+                TextAnalyzer.Token token = termTokens.get(i);
+                triples[i * 3] = token.position();
+                triples[i * 3 + 1] = token.start();
+                triples[i * 3 + 2] = token.end();
+            }
+            occurrences.put(term, triples);
+        });
+        return new StoredField(text, occurrences);
+    }
+    
+    int[] occurrencesOf(String term) {
+        return occurrences.getOrDefault(term, new int[0]);
+    }
+}
@@ -0,0 +1,169 @@
+package com.blogpostapp.backend.search;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+// Prefix autocomplete over published titles, tags and authors. Kept in step with the search index
+// through IndexListener, so every post write updates only the entries that post contributes to.
+// Titles weigh 1 + their views; a tag or author weighs the sum of that over its posts, which
+// favours both frequent and popular values.
+@Component
+public class SuggestionIndex implements IndexListener {
+    
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+    // Titles are also reachable from their first few words, so "boot" finds "Spring Boot Basics"
+    private static final int TITLE_WORD_KEYS = 5;
+    // Trie nodes only keep this many best entries, so no lookup can return more per type
+    public static final int MAX_LIMIT = SuggestionTrie.TOP_K;
+    
+    public enum Type { TITLE, TAG, AUTHOR }
+    
+    public record Suggestion(Type type, String text, String slug) {
+    }
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final SuggestionTrie titles = new SuggestionTrie();
+    private final SuggestionTrie tags = new SuggestionTrie();
+    private final SuggestionTrie authors = new SuggestionTrie();
+    // Aggregated weight per normalized tag or author, with the spelling shown to users
+    private final Map<String, Aggregate> tagWeights = new HashMap<>();
+    private final Map<String, Aggregate> authorWeights = new HashMap<>();
+    
+    @Autowired
+    public SuggestionIndex(PostSearchIndex postSearchIndex) {
+        postSearchIndex.addListener(this);
+    }
+    
+    @Override
+    public void postIndexed(IndexedPost previous, IndexedPost current) {
+        lock.writeLock().lock();
+        try {
+            if (previous != null) {
+                removePost(previous);
+            }
+            if (current != null) {
+                addPost(current);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void indexRebuilt(Collection<IndexedPost> documents) {
+        lock.writeLock().lock();
+        try {
+            titles.clear();
+            tags.clear();
+            authors.clear();
+            tagWeights.clear();
+            authorWeights.clear();
+            for (IndexedPost document : documents) {
+                addPost(document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    // Best matches per type for a prefix; type null means all three
+    public List<Suggestion> suggest(String prefix, Type type, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<Suggestion> suggestions = new ArrayList<>();
+            if (type == null || type == Type.TITLE) {
+                titles.top(key, limit).forEach(entry -> suggestions.add(new Suggestion(Type.TITLE, entry.text(), entry.slug())));
+            }
+            if (type == null || type == Type.TAG) {
+                tags.top(key, limit).forEach(entry -> suggestions.add(new Suggestion(Type.TAG, entry.text(), null)));
+            }
+            if (type == null || type == Type.AUTHOR) {
+                authors.top(key, limit).forEach(entry -> suggestions.add(new Suggestion(Type.AUTHOR, entry.text(), null)));
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return SPACES.matcher(folded.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+    
+    private void addPost(IndexedPost document) {
+        long weight = document.viewCount() + 1;
+        for (String key : titleKeys(document.title().text())) {
+            titles.put(new SuggestionTrie.Entry(document.slug(), key, document.title().text(), document.slug(), weight));
+        }
+        for (String tag : document.tags()) {
+            adjust(tags, tagWeights, tag, weight);
+        }
+        if (document.author() != null) {
+            adjust(authors, authorWeights, document.author(), weight);
+        }
+    }
+    
+    private void removePost(IndexedPost document) {
+        long weight = document.viewCount() + 1;
+        for (String key : titleKeys(document.title().text())) {
+            titles.remove(new SuggestionTrie.Entry(document.slug(), key, document.title().text(), document.slug(), weight));
+        }
+        for (String tag : document.tags()) {
+            adjust(tags, tagWeights, tag, -weight);
+        }
+        if (document.author() != null) {
+            adjust(authors, authorWeights, document.author(), -weight);
+        }
+    }
+    
+    private void adjust(SuggestionTrie trie, Map<String, Aggregate> weights, String value, long delta) {
+        String key = normalize(value);
+        if (key.isEmpty()) {
+            return;
+        }
+        Aggregate aggregate = weights.merge(key, new Aggregate(value, delta),
+                (existing, added) -> new Aggregate(existing.text(), existing.weight() + added.weight()));
+        if (aggregate.weight() <= 0) {
+            weights.remove(key);
+            trie.remove(new SuggestionTrie.Entry(key, key, aggregate.text(), null, 0));
+        } else {
+            trie.put(new SuggestionTrie.Entry(key, key, aggregate.text(), null, aggregate.weight()));
+        }
+    }
+    
+    private static List<String> titleKeys(String title) {
+        String normalized = normalize(title);
+        List<String> keys = new ArrayList<>(TITLE_WORD_KEYS);
+        int start = 0;
+        while (start < normalized.length() && keys.size() < TITLE_WORD_KEYS) {
+            keys.add(normalized.substring(start));
+            int space = normalized.indexOf(' ', start);
+            if (space < 0) {
+                break;
+            }
+            start = space + 1;
+        }
+        return keys;
+    }
+    
+    private record Aggregate(String text, long weight) {
+    }
+}
@@ -0,0 +1,181 @@
+package com.blogpostapp.backend.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// Character trie in which every node caches the best entries of its subtree, so a lookup is a walk
+// down the prefix followed by reading a precomputed list. Children live in small sorted arrays
+// rather than maps, and paths stop at MAX_DEPTH, below which entries are kept in a flat bucket.
+// Not thread-safe; SuggestionIndex guards it.
+final class SuggestionTrie {
+    
+    static final int MAX_DEPTH = 24;
+    static final int TOP_K = 10;
+    
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+    private static final Comparator<Entry> BY_WEIGHT = Comparator.comparingLong(Entry::weight).reversed()
+            .thenComparing(Entry::text);
+    
+    // id identifies the suggested item; the same item may be reachable through several keys
+    record Entry(String id, String key, String text, String slug, long weight) {
+    }
+    
+    private Node root = new Node();
+    
+    void put(Entry entry) {
+        List<Node> path = pathTo(entry.key(), true);
+        Node node = path.get(path.size() - 1);
+        node.entries = without(node.entries, entry);
+        node.entries = Arrays.copyOf(node.entries, node.entries.length + 1);
+        node.entries[node.entries.length - 1] = entry;
+        refresh(path);
+    }
+    
+    void remove(Entry entry) {
+        List<Node> path = pathTo(entry.key(), false);
+        if (path == null) {
+            return;
+        }
+        Node node = path.get(path.size() - 1);
+        node.entries = without(node.entries, entry);
+        refresh(path);
+    }
+    
+    void clear() {
+        root = new Node();
+    }
+    
+    List<Entry> top(String prefix, int limit) {
+        Node node = root;
+        int depth = Math.min(prefix.length(), MAX_DEPTH);
+        for (int i = 0; i < depth && node != null; i++) {
+            node = node.child(prefix.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+        if (prefix.length() <= MAX_DEPTH) {
+            return Arrays.asList(node.top).subList(0, Math.min(limit, node.top.length));
+        }
+        // Past the depth limit all longer keys share one bucket, which is small and filtered directly
+        List<Entry> matches = new ArrayList<>();
+        for (Entry entry : node.entries) {
+            if (entry.key().startsWith(prefix)) {
+                matches.add(entry);
+            }
+        }
+        matches.sort(BY_WEIGHT);
+        return dedupe(matches, limit);
+    }
+    
+    private List<Node> pathTo(String key, boolean create) {
+        List<Node> path = new ArrayList<>(Math.min(key.length(), MAX_DEPTH) + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < Math.min(key.length(), MAX_DEPTH); i++) {
+            Node child = node.child(key.charAt(i));
+            if (child == null) {
+                if (!create) {
+                    return null;
+                }
+                child = node.addChild(key.charAt(i));
+            }
+            node = child;
+            path.add(node);
+        }
+        return path;
+    }
+    
+    // Recomputes the cached top entries from the deepest changed node back up to the root
+    private void refresh(List<Node> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node node = path.get(i);
+            List<Entry> candidates = new ArrayList<>(Arrays.asList(node.entries));
+            for (Node child : node.children) {
+                candidates.addAll(Arrays.asList(child.top));
+            }
+            candidates.sort(BY_WEIGHT);
+            node.top = dedupe(candidates, TOP_K).toArray(NO_ENTRIES);
+            if (i > 0 && node.top.length == 0) {
+                path.get(i - 1).removeChild(node);
+            }
+        }
+    }
+    
+    private static List<Entry> dedupe(List<Entry> sorted, int limit) {
+        List<Entry> top = new ArrayList<>(Math.min(limit, sorted.size()));
+        Set<String> seen = new HashSet<>();
+        for (Entry entry : sorted) {
+            if (top.size() == limit) {
+                break;
+            }
+            if (seen.add(entry.id())) {
+                top.add(entry);
+            }
+        }
+        return top;
+    }
+    
+    private static Entry[] without(Entry[] entries, Entry entry) {
+        for (int i = 0; i < entries.length; i++) {
+            if (entries[i].id().equals(entry.id()) && entries[i].key().equals(entry.key())) {
+                Entry[] remaining = new Entry[entries.length - 1];
+                System.arraycopy(entries, 0, remaining, 0, i);
+                System.arraycopy(entries, i + 1, remaining, i, entries.length - i - 1);
+                return remaining;
+            }
+        }
+        return entries;
+    }
+    
+    private static final class Node {
+        
+        private static final Node[] NO_CHILDREN = new Node[0];
+        
+        private char[] labels = new char[0];
+        private Node[] children = NO_CHILDREN;
+        private Entry[] entries = NO_ENTRIES;
+        private Entry[] top = NO_ENTRIES;
+        
+        Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index >= 0 ? children[index] : null;
+        }
+        
+        Node addChild(char label) {
+            int index = -(Arrays.binarySearch(labels, label) + 1);
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(labels, index, newLabels, index + 1, labels.length - index);
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+            Node child = new Node();
+            newLabels[index] = label;
+            newChildren[index] = child;
+            labels = newLabels;
+            children = newChildren;
+            return child;
+        }
+        
+        void removeChild(Node child) {
+            for (int i = 0; i < children.length; i++) {
+                if (children[i] == child) {
+                    char[] newLabels = new char[labels.length - 1];
+                    Node[] newChildren = new Node[children.length - 1];
+                    System.arraycopy(labels, 0, newLabels, 0, i);
+                    System.arraycopy(children, 0, newChildren, 0, i);
+                    System.arraycopy(labels, i + 1, newLabels, i, labels.length - i - 1);
+                    System.arraycopy(children, i + 1, newChildren, i, children.length - i - 1);
+                    labels = newLabels;
+                    children = newChildren;
+                    return;
+                }
+            }
+        }
+    }
+}
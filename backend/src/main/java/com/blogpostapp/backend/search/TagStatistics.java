@@ -0,0 +1,156 @@
+package com.blogpostapp.backend.search;
+
+import com.blogpostapp.backend.service.interfaces.ViewsFlushedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Post count, total views and most recent use of every tag on published posts. Follows the search
+// index through IndexListener, so committed post writes adjust only the tags they touch, and adds flushed
+// view counts as they are written. A re-indexed post keeps its live view count rather than the one it was
+// indexed with, which may predate flushes.
+@Component
+public class TagStatistics implements IndexListener {
+    
+    public record TagStats(String tag, long posts, long views, LocalDateTime lastUsedAt) {
+    }
+    
+    private static final class Counts {
+        private long posts;
+        private long views;
+        private LocalDateTime lastUsedAt;
+    }
+    
+    // What each published post contributes, so it can be taken back out exactly
+    private record Contribution(Set<String> tags, long views, LocalDateTime usedAt) {
+    }
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Counts> counts = new HashMap<>();
+    private final Map<Long, Contribution> contributions = new HashMap<>();
+    
+    @Autowired
+    public TagStatistics(PostSearchIndex postSearchIndex) {
+        postSearchIndex.addListener(this);
+    }
+    
+    @Override
+    public void postIndexed(IndexedPost previous, IndexedPost current) {
+        lock.writeLock().lock();
+        try {
+            Long views = previous != null ? remove(previous.postId()) : null;
+            if (current != null) {
+                add(current, views != null ? views : current.viewCount());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public void indexRebuilt(Collection<IndexedPost> documents) {
+        lock.writeLock().lock();
+        try {
+            counts.clear();
+            contributions.clear();
+            for (IndexedPost document : documents) {
+                add(document, document.viewCount());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @EventListener
+    public void viewsFlushed(ViewsFlushedEvent event) {
+        lock.writeLock().lock();
+        try {
+            event.viewsByPost().forEach((postId, views) -> {
+                Contribution contribution = contributions.get(postId);
+                if (contribution != null) {
+                    contributions.put(postId, new Contribution(contribution.tags(), contribution.views() + views, contribution.usedAt()));
+                    for (String tag : contribution.tags()) {
+                        counts.get(tag).views += views;
+                    }
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public List<TagStats> all() {
+        lock.readLock().lock();
+        try {
+            List<TagStats> stats = new ArrayList<>(counts.size());
+            counts.forEach((tag, tagCounts) -> stats.add(new TagStats(tag, tagCounts.posts, tagCounts.views, tagCounts.lastUsedAt)));
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // Published posts carrying exactly this tag
+    public long posts(String tag) {
+        lock.readLock().lock();
+        try {
+            Counts tagCounts = counts.get(tag);
+            return tagCounts != null ? tagCounts.posts : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private void add(IndexedPost document, long views) {
+        LocalDateTime usedAt = document.publishedAt() != null ? document.publishedAt() : document.createdAt();
+        contributions.put(document.postId(), new Contribution(document.tags(), views, usedAt));
+        for (String tag : document.tags()) {
+            Counts tagCounts = counts.computeIfAbsent(tag, key -> new Counts());
+            tagCounts.posts++;
+            tagCounts.views += views;
+            if (usedAt != null && (tagCounts.lastUsedAt == null || usedAt.isAfter(tagCounts.lastUsedAt))) {
+                tagCounts.lastUsedAt = usedAt;
+            }
+        }
+    }
+    
+    // Returns the post's live view count, null if it was not counted
+    private Long remove(Long postId) {
+        Contribution contribution = contributions.remove(postId);
+        if (contribution == null) {
+            return null;
+        }
+        for (String tag : contribution.tags()) {
+            Counts tagCounts = counts.get(tag);
+            if (--tagCounts.posts == 0) {
+                counts.remove(tag);
+                continue;
+            }
+            tagCounts.views -= contribution.views();
+            // Only losing the latest post of a tag needs a look at the others
+            if (contribution.usedAt() != null && contribution.usedAt().equals(tagCounts.lastUsedAt)) {
+                tagCounts.lastUsedAt = lastUsed(tag);
+            }
+        }
+        return contribution.views();
+    }
+    
+    private LocalDateTime lastUsed(String tag) {
+        LocalDateTime latest = null;
+        for (Contribution contribution : contributions.values()) {
+            if (contribution.tags().contains(tag) && contribution.usedAt() != null
+                    && (latest == null || contribution.usedAt().isAfter(latest))) {
+                latest = contribution.usedAt();
+            }
+        }
+        return latest;
+    }
+}
@@ -0,0 +1,140 @@
+package com.blogpostapp.backend.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Trigram postings over the term dictionary, used to find indexed terms that are a few typos away
+// from a query term. Candidates are shortlisted by shared trigrams and only the best few are checked
+// with a bounded edit distance, so the cost per query term has a fixed ceiling.
+// Guarded by the lock of PostSearchIndex.
+final class TrigramIndex {
+    
+    // Trigrams shared by this many terms say little about a match and are skipped
+    private static final int MAX_TRIGRAM_FANOUT = 5_000;
+    
+    private final Map<String, Set<String>> termsByTrigram = new HashMap<>();
+    // Spelling of each term as it first appeared in a post, used when suggesting a corrected query
+    private final Map<String, String> surfaceForms = new HashMap<>();
+    
+    record Correction(String term, int distance) {
+    }
+    
+    void add(String term, String surfaceForm) {
+        surfaceForms.put(term, surfaceForm);
+        for (String trigram : trigrams(term)) {
+            termsByTrigram.computeIfAbsent(trigram, key -> new HashSet<>()).add(term);
+        }
+    }
+    
+    void remove(String term) {
+        surfaceForms.remove(term);
+        for (String trigram : trigrams(term)) {
+            Set<String> terms = termsByTrigram.get(trigram);
+            if (terms != null) {
+                terms.remove(term);
+                if (terms.isEmpty()) {
+                    termsByTrigram.remove(trigram);
+                }
+            }
+        }
+    }
+    
+    void clear() {
+        termsByTrigram.clear();
+        surfaceForms.clear();
+    }
+    
+    String surfaceForm(String term) {
+        return surfaceForms.getOrDefault(term, term);
+    }
+    
+    // Closest indexed terms within maxEdits of the given term, best first
+    List<Correction> corrections(String term, int maxEdits, int maxCandidates, int maxResults) {
+        int edits = allowedEdits(term, maxEdits);
+        if (edits == 0) {
+            return List.of();
+        }
+        
+        Map<String, Integer> shared = new HashMap<>();
+        for (String trigram : trigrams(term)) {
+            Set<String> terms = termsByTrigram.get(trigram);
+            if (terms != null && terms.size() <= MAX_TRIGRAM_FANOUT) {
+                for (String candidate : terms) {
+                    if (Math.abs(candidate.length() - term.length()) <= edits) {
+                        shared.merge(candidate, 1, Integer::sum);
+                    }
+                }
+            }
+        }
+        
+        List<Map.Entry<String, Integer>> shortlist = new ArrayList<>(shared.entrySet());
+        shortlist.sort(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+        List<Correction> corrections = new ArrayList<>();
+        for (int i = 0; i < shortlist.size() && i < maxCandidates; i++) {
+            String candidate = shortlist.get(i).getKey();
+            if (candidate.equals(term)) {
+                continue;
+            }
+            int distance = distance(term, candidate, edits);
+            if (distance <= edits) {
+                corrections.add(new Correction(candidate, distance));
+            }
+        }
+        corrections.sort(Comparator.comparingInt(Correction::distance).thenComparing(Correction::term));
+        return corrections.size() > maxResults ? corrections.subList(0, maxResults) : corrections;
+    }
+    
+    // Short words tolerate fewer typos, otherwise almost everything would match
+    private static int allowedEdits(String term, int maxEdits) {
+        if (term.length() <= 3) {
+            return 0;
+        }
+        return Math.min(maxEdits, term.length() <= 5 ? 1 : 2);
+    }
+    
+    static List<String> trigrams(String term) {
+        String padded = "  " + term + " ";
+        List<String> trigrams = new ArrayList<>(padded.length() - 2);
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+    
+    // Optimal string alignment distance (adjacent swaps count as one edit); gives up with
+    // limit + 1 as soon as every cell in a row exceeds the limit
+    static int distance(String a, String b, int limit) {
+        int[] previousRow = new int[b.length() + 1];
+        int[] row = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            row[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(row[j] + 1, current[j - 1] + 1), row[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previousRow[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > limit) {
+                return limit + 1;
+            }
+            int[] recycled = previousRow;
+            previousRow = row;
+            row = current;
+            current = recycled;
+        }
+        return row[b.length()];
+    }
+}
@@ -0,0 +1,36 @@
+package com.blogpostapp.backend.service.impl;
+
+import com.blogpostapp.backend.dto.ActivityDto;
+import com.blogpostapp.backend.dto.AdminStatsDto;
+import com.blogpostapp.backend.service.interfaces.AdminService;
+import com.blogpostapp.backend.stats.DashboardCounters;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class AdminServiceImpl implements AdminService {
+    
+    private final DashboardCounters dashboardCounters;
+    
+    @Autowired
+    public AdminServiceImpl(DashboardCounters dashboardCounters) {
+        this.dashboardCounters = dashboardCounters;
+    }
+    
+    // Read from counters kept by the writes, so the cost does not grow with the number of posts
+    @Override
+    public AdminStatsDto getDashboardStats() {
+        DashboardCounters.Snapshot snapshot = dashboardCounters.snapshot();
+        Map<String, Long> postsByStatus = new LinkedHashMap<>();
+        snapshot.postsByStatus().forEach((status, count) -> postsByStatus.put(status.name(), count));
+        long totalPosts = postsByStatus.values().stream().mapToLong(Long::longValue).sum();
+        List<ActivityDto> recentActivity = snapshot.recentActivity().stream()
+                .map(activity -> new ActivityDto(activity.type().name(), activity.postId(), activity.title(), activity.at()))
+                .toList();
+        return new AdminStatsDto(totalPosts, postsByStatus, snapshot.views(), snapshot.comments(), snapshot.authors(),
+                recentActivity);
+    }
+}
@@ -0,0 +1,151 @@
+package com.blogpostapp.backend.service.impl;
+
+import com.blogpostapp.backend.dto.AnalyticsSummaryDto;
+import com.blogpostapp.backend.dto.GroupStatsDto;
+import com.blogpostapp.backend.dto.MonthlyStatsDto;
+import com.blogpostapp.backend.dto.PostStatsDto;
+import com.blogpostapp.backend.entity.BlogPost;
+import com.blogpostapp.backend.exception.BadRequestException;
+import com.blogpostapp.backend.repository.BlogPostRepository;
+import com.blogpostapp.backend.repository.CommentRepository;
+import com.blogpostapp.backend.service.interfaces.AnalyticsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Service
+@Transactional(readOnly = true)
+public class AnalyticsServiceImpl implements AnalyticsService {
+    
+    private static final Pattern RANGE = Pattern.compile("(\\d{1,4})([dwmy])");
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final int TOP_POSTS = 5;
+    private static final int TOP_AUTHORS = 5;
+    private static final int TOP_TAGS = 8;
+    private static final BlogPost.PostStatus PUBLISHED = BlogPost.PostStatus.PUBLISHED;
+    
+    private final BlogPostRepository blogPostRepository;
+    private final CommentRepository commentRepository;
+    
+    @Autowired
+    public AnalyticsServiceImpl(BlogPostRepository blogPostRepository, CommentRepository commentRepository) {
+        this.blogPostRepository = blogPostRepository;
+        this.commentRepository = commentRepository;
+    }
+    
+    // Every figure is a GROUP BY in the database, so the cost and the response size do not grow with the number of posts
+    @Override
+    @Cacheable(value = "analyticsSummary", key = "#range.trim().toLowerCase()", sync = true)
+    public AnalyticsSummaryDto getSummary(String range) {
+        String normalized = range.trim().toLowerCase(Locale.ROOT);
+        LocalDateTime since = since(normalized);
+        AnalyticsSummaryDto summary = new AnalyticsSummaryDto();
+        summary.setRange(normalized);
+        summary.setSince(since);
+        
+        Object[] totals = blogPostRepository.summarizeSince(PUBLISHED, since).get(0);
+        long posts = number(totals[0]);
+        long views = number(totals[1]);
+        long comments = commentRepository.countByPostsSince(PUBLISHED, since);
+        summary.setTotalPosts(posts);
+        summary.setTotalViews(views);
+        summary.setTotalComments(comments);
+        summary.setAvgViewsPerPost(posts > 0 ? Math.round((double) views / posts) : 0);
+        summary.setAvgCommentsPerPost(posts > 0 ? (double) comments / posts : 0);
+        summary.setEngagementRate(views > 0 ? comments * 100.0 / views : 0);
+        summary.setHighPerformers(number(totals[2]));
+        summary.setGoodPerformers(number(totals[3]));
+        summary.setLowPerformers(posts - number(totals[2]) - number(totals[3]));
+        
+        summary.setTopPosts(blogPostRepository.findMostViewedSince(PUBLISHED, since, PageRequest.of(0, TOP_POSTS)).stream()
+                .map(row -> new PostStatsDto((Long) row[0], (String) row[1], (String) row[2], number(row[3]), number(row[4])))
+                .toList());
+        
+        List<Object[]> authors = blogPostRepository.countPostsByAuthor(PUBLISHED, since, PageRequest.of(0, TOP_AUTHORS));
+        Map<String, Long> authorComments = authors.isEmpty() ? Map.of()
+                : counts(commentRepository.countByPostAuthors(PUBLISHED, since, names(authors)));
+        summary.setTopAuthors(groups(authors, authorComments));
+        
+        List<Object[]> tags = blogPostRepository.countPostsByTag(PUBLISHED, since, PageRequest.of(0, TOP_TAGS));
+        Map<String, Long> tagComments = tags.isEmpty() ? Map.of()
+                : counts(commentRepository.countByPostTags(PUBLISHED, since, names(tags)));
+        summary.setTopTags(groups(tags, tagComments));
+        
+        summary.setMonthly(monthly(since));
+        return summary;
+    }
+    
+    private List<MonthlyStatsDto> monthly(LocalDateTime since) {
+        Map<String, Long> commentsByMonth = new HashMap<>();
+        for (Object[] row : commentRepository.countByPostMonths(PUBLISHED, since)) {
+            commentsByMonth.put(month(row[0], row[1]), number(row[2]));
+        }
+        // Sorted by month; the keys are zero-padded so text order is date order
+        Map<String, MonthlyStatsDto> months = new TreeMap<>();
+        for (Object[] row : blogPostRepository.countPostsByMonth(PUBLISHED, since)) {
+            String month = month(row[0], row[1]);
+            months.put(month, new MonthlyStatsDto(month, number(row[2]), number(row[3]), commentsByMonth.getOrDefault(month, 0L)));
+        }
+        return new ArrayList<>(months.values());
+    }
+    
+    // Accepts all or a number of days, weeks, months or years, e.g. 7d, 30d, 6m, 1y
+    private static LocalDateTime since(String range) {
+        if (range.equals("all")) {
+            return BEGINNING;
+        }
+        Matcher matcher = RANGE.matcher(range);
+        if (!matcher.matches()) {
+            throw new BadRequestException("Invalid range '" + range + "', expected all or e.g. 7d, 4w, 6m, 1y");
+        }
+        int amount = Integer.parseInt(matcher.group(1));
+        LocalDate today = LocalDate.now();
+        // Whole days, so every request of the same day shares one cached summary
+        LocalDate start = switch (matcher.group(2)) {
+            case "d" -> today.minusDays(amount);
+            case "w" -> today.minusWeeks(amount);
+            case "m" -> today.minusMonths(amount);
+            default -> today.minusYears(amount);
+        };
+        return start.atStartOfDay();
+    }
+    
+    private static List<GroupStatsDto> groups(List<Object[]> rows, Map<String, Long> comments) {
+        return rows.stream()
+                .map(row -> new GroupStatsDto((String) row[0], number(row[1]), number(row[2]), comments.getOrDefault((String) row[0], 0L)))
+                .toList();
+    }
+    
+    private static List<String> names(List<Object[]> rows) {
+        return rows.stream().map(row -> (String) row[0]).toList();
+    }
+    
+    private static Map<String, Long> counts(List<Object[]> rows) {
+        Map<String, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((String) row[0], number(row[1]));
+        }
+        return counts;
+    }
+    
+    private static String month(Object year, Object month) {
+        return String.format("%04d-%02d", number(year), number(month));
+    }
+    
+    // Aggregates come back as Integer or Long depending on the database
+    private static long number(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+}
@@ -0,0 +1,97 @@
+package com.blogpostapp.backend.service.impl;
+
+import com.blogpostapp.backend.dto.AuthorStatsDto;
+import com.blogpostapp.backend.dto.BlogPostSummaryDto;
+import com.blogpostapp.backend.entity.BlogPost;
+import com.blogpostapp.backend.exception.BadRequestException;
+import com.blogpostapp.backend.exception.ResourceNotFoundException;
+import com.blogpostapp.backend.mapper.BlogPostPageHydrator;
+import com.blogpostapp.backend.repository.BlogPostRepository;
+import com.blogpostapp.backend.search.AuthorDirectory;
+import com.blogpostapp.backend.service.interfaces.AuthorService;
+import com.blogpostapp.backend.stats.PostTotals;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+@Service
+@Transactional(readOnly = true)
+public class AuthorServiceImpl implements AuthorService {
+    
+    private static final Comparator<AuthorDirectory.AuthorStats> BY_NAME =
+            Comparator.comparing(AuthorDirectory.AuthorStats::name, String.CASE_INSENSITIVE_ORDER);
+    
+    private final AuthorDirectory authorDirectory;
+    private final BlogPostRepository blogPostRepository;
+    private final BlogPostPageHydrator blogPostPageHydrator;
+    
+    @Autowired
+    public AuthorServiceImpl(AuthorDirectory authorDirectory, BlogPostRepository blogPostRepository,
+                             BlogPostPageHydrator blogPostPageHydrator) {
+        this.authorDirectory = authorDirectory;
+        this.blogPostRepository = blogPostRepository;
+        this.blogPostPageHydrator = blogPostPageHydrator;
+    }
+    
+    // Paged from the in-memory directory; the posts table is never read
+    @Override
+    public Page<AuthorStatsDto> getAuthors(String sort, Pageable pageable) {
+        List<AuthorDirectory.AuthorStats> authors = authorDirectory.all();
+        List<AuthorStatsDto> content = authors.stream()
+                .sorted(comparator(sort))
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .map(this::toDto)
+                .toList();
+        return new PageImpl<>(content, pageable, authors.size());
+    }
+    
+    @Override
+    public AuthorStatsDto getAuthor(String name) {
+        return toDto(find(name));
+    }
+    
+    // Resolves the stored spellings first, so the query is an exact match on the author index that finds
+    // the same posts the directory counts, and takes the total from the directory instead of counting
+    @Override
+    public Page<BlogPostSummaryDto> getPublishedPostsByAuthor(String name, Pageable pageable) {
+        AuthorDirectory.AuthorStats author = find(name);
+        Slice<BlogPostSummaryDto> posts = blogPostRepository.findSummariesByAuthorInAndStatus(author.spellings(),
+                BlogPost.PostStatus.PUBLISHED, pageable);
+        blogPostPageHydrator.hydrateSummaries(posts.getContent());
+        return PostTotals.toPage(posts, author.posts());
+    }
+    
+    private AuthorDirectory.AuthorStats find(String name) {
+        AuthorDirectory.AuthorStats author = authorDirectory.find(name);
+        if (author == null) {
+            throw new ResourceNotFoundException("Author not found: " + name);
+        }
+        return author;
+    }
+    
+    private AuthorStatsDto toDto(AuthorDirectory.AuthorStats author) {
+        return new AuthorStatsDto(author.name(), author.posts(), author.views(), author.comments(),
+                author.latestPostId(), author.latestPostSlug(), author.latestPostTitle(), author.latestPostAt());
+    }
+    
+    private Comparator<AuthorDirectory.AuthorStats> comparator(String sort) {
+        String key = sort == null ? "posts" : sort.trim().toLowerCase(Locale.ROOT);
+        return switch (key) {
+            case "posts" -> Comparator.comparingLong(AuthorDirectory.AuthorStats::posts).reversed().thenComparing(BY_NAME);
+            case "views" -> Comparator.comparingLong(AuthorDirectory.AuthorStats::views).reversed().thenComparing(BY_NAME);
+            case "comments" -> Comparator.comparingLong(AuthorDirectory.AuthorStats::comments).reversed().thenComparing(BY_NAME);
+            case "recent" -> Comparator.comparing(AuthorDirectory.AuthorStats::latestPostAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(BY_NAME);
+            case "name" -> BY_NAME;
+            default -> throw new BadRequestException("Unknown author sort: " + sort + " (expected posts, views, comments, recent or name)");
+        };
+    }
+}
@@ -1,60 +1,142 @@
 package com.blogpostapp.backend.service.impl;
 
+import com.blogpostapp.backend.cache.PostCacheInvalidator;
+import com.blogpostapp.backend.cache.PostSnapshot;
+import com.blogpostapp.backend.config.CacheConfig;
 import com.blogpostapp.backend.dto.BlogPostDto;
+import com.blogpostapp.backend.dto.BlogPostSummaryDto;
 import com.blogpostapp.backend.dto.CreateBlogPostRequest;
+import com.blogpostapp.backend.dto.CursorSlice;
+import com.blogpostapp.backend.dto.FacetCountDto;
+import com.blogpostapp.backend.dto.KeysetCursor;
+import com.blogpostapp.backend.dto.NearDuplicateDto;
+import com.blogpostapp.backend.dto.RelatedPostDto;
+import com.blogpostapp.backend.dto.SearchHitDto;
+import com.blogpostapp.backend.dto.SearchPage;
 import com.blogpostapp.backend.entity.BlogPost;
 import com.blogpostapp.backend.exception.ResourceNotFoundException;
 import com.blogpostapp.backend.mapper.BlogPostMapper;
+import com.blogpostapp.backend.mapper.BlogPostPageHydrator;
 import com.blogpostapp.backend.repository.BlogPostRepository;
+import com.blogpostapp.backend.search.FacetCount;
+import com.blogpostapp.backend.search.NearDuplicateIndex;
+import com.blogpostapp.backend.search.PostSearchIndex;
+import com.blogpostapp.backend.search.RelatedPostsIndex;
+import com.blogpostapp.backend.search.SearchHit;
+import com.blogpostapp.backend.search.SearchHits;
+import com.blogpostapp.backend.search.SearchResultCache;
+import com.blogpostapp.backend.search.SimHash;
 import com.blogpostapp.backend.service.interfaces.BlogPostService;
+import com.blogpostapp.backend.service.interfaces.ViewCountService;
+import com.blogpostapp.backend.stats.DashboardCounters;
+import com.blogpostapp.backend.stats.PostTotals;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class BlogPostServiceImpl implements BlogPostService {
     
+    private static final Logger logger = LoggerFactory.getLogger(BlogPostServiceImpl.class);
+    private static final int SEARCH_SNIPPETS = 2;
+    private static final int SEARCH_FACET_VALUES = 10;
+    
     private final BlogPostRepository blogPostRepository;
     private final BlogPostMapper blogPostMapper;
+    private final BlogPostPageHydrator blogPostPageHydrator;
+    private final ViewCountService viewCountService;
+    private final PostCacheInvalidator postCacheInvalidator;
+    private final PostSearchIndex postSearchIndex;
+    private final SearchResultCache searchResultCache;
+    private final RelatedPostsIndex relatedPostsIndex;
+    private final NearDuplicateIndex nearDuplicateIndex;
+    private final DashboardCounters dashboardCounters;
+    private final PostTotals postTotals;
+    private final CacheManager cacheManager;
     
     @Autowired
-    public BlogPostServiceImpl(BlogPostRepository blogPostRepository, BlogPostMapper blogPostMapper) {
+    public BlogPostServiceImpl(BlogPostRepository blogPostRepository, BlogPostMapper blogPostMapper,
+                               BlogPostPageHydrator blogPostPageHydrator, ViewCountService viewCountService,
+                               PostCacheInvalidator postCacheInvalidator, PostSearchIndex postSearchIndex,
+                               SearchResultCache searchResultCache, RelatedPostsIndex relatedPostsIndex,
+                               NearDuplicateIndex nearDuplicateIndex, DashboardCounters dashboardCounters,
+                               PostTotals postTotals, CacheManager cacheManager) {
         this.blogPostRepository = blogPostRepository;
         this.blogPostMapper = blogPostMapper;
+        this.blogPostPageHydrator = blogPostPageHydrator;
+        this.viewCountService = viewCountService;
+        this.postCacheInvalidator = postCacheInvalidator;
+        this.postSearchIndex = postSearchIndex;
+        this.searchResultCache = searchResultCache;
+        this.relatedPostsIndex = relatedPostsIndex;
+        this.nearDuplicateIndex = nearDuplicateIndex;
+        this.dashboardCounters = dashboardCounters;
+        this.postTotals = postTotals;
+        this.cacheManager = cacheManager;
     }
     
+    // Listings take their total from PostTotals and skip the COUNT query, unless an exact total is asked for
     @Override
     @Transactional(readOnly = true)
-    public Page<BlogPostDto> getAllPosts(Pageable pageable) {
-        return blogPostRepository.findAll(pageable)
-                .map(blogPostMapper::toDto);
+    public Page<BlogPostSummaryDto> getAllPosts(Pageable pageable) {
+        return getAllPosts(pageable, false);
     }
     
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "publishedPosts", key = "#pageable.pageNumber + '-' + #pageable.pageSize")
-    public Page<BlogPostDto> getPublishedPosts(Pageable pageable) {
-        return blogPostRepository.findByStatus(BlogPost.PostStatus.PUBLISHED, pageable)
-                .map(blogPostMapper::toDto);
+    public Page<BlogPostSummaryDto> getAllPosts(Pageable pageable, boolean exactTotal) {
+        return toSummaryPage(blogPostRepository.findSummaries(pageable),
+                exactTotal ? blogPostRepository.count() : postTotals.all());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = "publishedPosts", key = "#pageable.pageNumber + '-' + #pageable.pageSize", sync = true)
+    public Page<BlogPostSummaryDto> getPublishedPosts(Pageable pageable) {
+        return getPostsByStatus(BlogPost.PostStatus.PUBLISHED, pageable, false);
+    }
+    
+    // Shares the cache entries of the one-argument form; exact totals are never cached
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = "publishedPosts", key = "#pageable.pageNumber + '-' + #pageable.pageSize", condition = "!#exactTotal", sync = true)
+    public Page<BlogPostSummaryDto> getPublishedPosts(Pageable pageable, boolean exactTotal) {
+        return getPostsByStatus(BlogPost.PostStatus.PUBLISHED, pageable, exactTotal);
     }
     
     @Override
     @Transactional(readOnly = true)
     public Optional<BlogPostDto> getPostById(Long id) {
         return blogPostRepository.findById(id)
-                .map(blogPostMapper::toDto);
+                .map(blogPostMapper::toDto)
+                .map(this::withPendingViews);
     }
     
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "postBySlug", key = "#slug")
+    @Cacheable(value = "postBySlug", key = "#slug", sync = true)
     public Optional<BlogPostDto> getPostBySlug(String slug) {
         return blogPostRepository.findBySlug(slug)
                 .map(blogPostMapper::toDto);
@@ -62,96 +144,294 @@ public class BlogPostServiceImpl implements BlogPostService {
     
     @Override
     @Transactional(readOnly = true)
-    public Page<BlogPostDto> getPostsByAuthor(String author, Pageable pageable) {
-        return blogPostRepository.findByAuthorContainingIgnoreCase(author, pageable)
-                .map(blogPostMapper::toDto);
+    public Page<BlogPostSummaryDto> getPostsByAuthor(String author, Pageable pageable) {
+        return getPostsByAuthor(author, pageable, false);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<BlogPostSummaryDto> getPostsByAuthor(String author, Pageable pageable, boolean exactTotal) {
+        return toSummaryPage(blogPostRepository.findSummariesByAuthorContaining(author, pageable),
+                exactTotal ? blogPostRepository.countByAuthorContainingIgnoreCase(author) : postTotals.byAuthorContaining(author));
     }
     
     @Override
     @Transactional(readOnly = true)
     public Page<BlogPostDto> searchPosts(String keyword, Pageable pageable) {
-        return blogPostRepository.searchPublishedPosts(keyword, BlogPost.PostStatus.PUBLISHED, pageable)
-                .map(blogPostMapper::toDto);
+        return searchPosts(keyword, pageable, false);
     }
     
     @Override
     @Transactional(readOnly = true)
-    public Page<BlogPostDto> getPostsByTags(List<String> tags, Pageable pageable) {
-        return blogPostRepository.findByTagsAndStatus(tags, BlogPost.PostStatus.PUBLISHED, pageable)
-                .map(blogPostMapper::toDto);
+    public Page<BlogPostDto> searchPosts(String keyword, Pageable pageable, boolean withFacets) {
+        // Ranked by relevance from the in-memory index; only the page's posts missing from the post cache are read
+        SearchHits hits = searchResultCache.search(keyword, (int) pageable.getOffset(), pageable.getPageSize(),
+                0, withFacets ? SEARCH_FACET_VALUES : 0);
+        List<BlogPostDto> content = loadInOrder(hits.hits());
+        return withFacets || hits.correctedQuery() != null ? toSearchPage(content, pageable, hits) : new PageImpl<>(content, pageable, hits.total());
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Page<SearchHitDto> searchPostHits(String keyword, Pageable pageable, boolean withFacets) {
+        // Served entirely from the index, so the response size does not grow with post length
+        SearchHits hits = searchResultCache.search(keyword, (int) pageable.getOffset(), pageable.getPageSize(),
+                SEARCH_SNIPPETS, withFacets ? SEARCH_FACET_VALUES : 0);
+        List<SearchHitDto> content = hits.hits().stream()
+                .map(hit -> new SearchHitDto(hit.postId(), hit.slug(), hit.title(), hit.summary(), hit.snippets()))
+                .toList();
+        return withFacets || hits.correctedQuery() != null ? toSearchPage(content, pageable, hits) : new PageImpl<>(content, pageable, hits.total());
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<RelatedPostDto> getRelatedPosts(Long id, int limit) {
+        // Precomputed whenever posts change, so this never touches the database
+        List<RelatedPostsIndex.RelatedPost> related = relatedPostsIndex.related(id, limit);
+        if (related == null) {
+            throw new ResourceNotFoundException("Blog post not found with id: " + id);
+        }
+        return related.stream()
+                .map(post -> new RelatedPostDto(post.postId(), post.slug(), post.title(), post.summary(), post.tags(), post.score()))
+                .toList();
+    }
+    
+    // Posts already in the postBySlug cache are reused as they are; the rest are read in one query
+    private List<BlogPostDto> loadInOrder(List<SearchHit> hits) {
+        Cache slugCache = cacheManager.getCache(CacheConfig.POST_BY_SLUG);
+        Map<Long, BlogPostDto> postsById = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (SearchHit hit : hits) {
+            Cache.ValueWrapper cached = slugCache != null ? slugCache.get(hit.slug()) : null;
+            if (cached != null && cached.get() instanceof BlogPostDto dto) {
+                postsById.put(hit.postId(), dto);
+            } else {
+                missing.add(hit.postId());
+            }
+        }
+        if (!missing.isEmpty()) {
+            blogPostPageHydrator.hydrate(new PageImpl<>(findAllInOrder(missing)))
+                    .forEach(dto -> postsById.put(dto.getId(), dto));
+        }
+        return hits.stream().map(hit -> postsById.get(hit.postId())).filter(Objects::nonNull).toList();
+    }
+    
+    private <T> SearchPage<T> toSearchPage(List<T> content, Pageable pageable, SearchHits hits) {
+        return new SearchPage<>(content, pageable, hits.total(), toFacetDtos(hits), hits.correctedQuery());
+    }
+    
+    private Map<String, List<FacetCountDto>> toFacetDtos(SearchHits hits) {
+        Map<String, List<FacetCountDto>> facets = new LinkedHashMap<>();
+        for (Map.Entry<String, List<FacetCount>> facet : hits.facets().entrySet()) {
+            facets.put(facet.getKey(), facet.getValue().stream()
+                    .map(count -> new FacetCountDto(count.value(), count.count()))
+                    .toList());
+        }
+        return facets;
     }
     
     @Override
     @Transactional(readOnly = true)
-    public Page<BlogPostDto> getPostsByStatus(BlogPost.PostStatus status, Pageable pageable) {
-        return blogPostRepository.findByStatus(status, pageable)
-                .map(blogPostMapper::toDto);
+    public Page<BlogPostSummaryDto> getPostsByTags(List<String> tags, Pageable pageable) {
+        return getPostsByTags(tags, pageable, false);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<BlogPostSummaryDto> getPostsByTags(List<String> tags, Pageable pageable, boolean exactTotal) {
+        return toSummaryPage(blogPostRepository.findSummariesByTagsAndStatus(tags, BlogPost.PostStatus.PUBLISHED, pageable),
+                exactTotal ? blogPostRepository.countByTagsAndStatus(tags, BlogPost.PostStatus.PUBLISHED) : postTotals.byPublishedTags(tags));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<BlogPostSummaryDto> getPostsByStatus(BlogPost.PostStatus status, Pageable pageable) {
+        return getPostsByStatus(status, pageable, false);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<BlogPostSummaryDto> getPostsByStatus(BlogPost.PostStatus status, Pageable pageable, boolean exactTotal) {
+        return toSummaryPage(blogPostRepository.findSummariesByStatus(status, pageable),
+                exactTotal ? blogPostRepository.countByStatus(status) : postTotals.byStatus(status));
+    }
+    
+    private Page<BlogPostSummaryDto> toSummaryPage(Slice<BlogPostSummaryDto> slice, long total) {
+        blogPostPageHydrator.hydrateSummaries(slice.getContent());
+        return PostTotals.toPage(slice, total);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<BlogPostSummaryDto> getPostsByStatus(BlogPost.PostStatus status, String after, int size) {
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        return toCursorSlice(blogPostRepository.findSummariesByStatusAfterCursor(status, cursor.createdAt(), cursor.id(),
+                Limit.of(size + 1)), size);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<BlogPostSummaryDto> getPostsByAuthor(String author, String after, int size) {
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        return toCursorSlice(blogPostRepository.findSummariesByAuthorAfterCursor(author, cursor.createdAt(), cursor.id(),
+                Limit.of(size + 1)), size);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<BlogPostSummaryDto> getPostsByTags(List<String> tags, String after, int size) {
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        return toCursorSlice(blogPostRepository.findSummariesByTagsAndStatusAfterCursor(tags, BlogPost.PostStatus.PUBLISHED,
+                cursor.createdAt(), cursor.id(), Limit.of(size + 1)), size);
+    }
+    
+    // One row past the slice is fetched only to tell whether there is a next slice
+    private CursorSlice<BlogPostSummaryDto> toCursorSlice(List<BlogPostSummaryDto> posts, int size) {
+        boolean hasNext = posts.size() > size;
+        List<BlogPostSummaryDto> slice = hasNext ? posts.subList(0, size) : posts;
+        blogPostPageHydrator.hydrateSummaries(slice);
+        return new CursorSlice<>(slice, size, hasNext ? cursorOf(slice.get(size - 1)) : null);
+    }
+    
+    private static String cursorOf(BlogPostSummaryDto post) {
+        return new KeysetCursor(post.getCreatedAt(), post.getId()).encode();
     }
     
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "allTags")
+    @Cacheable(value = "allTags", sync = true)
     public List<String> getAllTags() {
         return blogPostRepository.findAllTagsByStatus(BlogPost.PostStatus.PUBLISHED);
     }
     
     @Override
-    @CacheEvict(value = {"publishedPosts", "allTags"}, allEntries = true)
     public BlogPostDto createPost(CreateBlogPostRequest request) {
         BlogPost blogPost = blogPostMapper.toEntity(request);
+        blogPost.setContentFingerprint(SimHash.fingerprint(blogPost.getContent()));
         BlogPost savedPost = blogPostRepository.save(blogPost);
+        postCacheInvalidator.postChanged(null, PostSnapshot.of(savedPost));
+        postSearchIndex.postChanged(savedPost.getId(), savedPost);
+        dashboardCounters.postCreated(savedPost);
+        flagNearDuplicates(savedPost);
         return blogPostMapper.toDto(savedPost);
     }
     
     @Override
-    @CacheEvict(value = {"publishedPosts", "postBySlug", "allTags"}, allEntries = true)
     public BlogPostDto updatePost(Long id, BlogPostDto postDto) {
         BlogPost existingPost = blogPostRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Blog post not found with id: " + id));
         
+        PostSnapshot before = PostSnapshot.of(existingPost);
+        DashboardCounters.PostState counted = DashboardCounters.PostState.of(existingPost);
         blogPostMapper.updateEntity(existingPost, postDto);
+        existingPost.setContentFingerprint(SimHash.fingerprint(existingPost.getContent()));
         BlogPost updatedPost = blogPostRepository.save(existingPost);
+        postCacheInvalidator.postChanged(before, PostSnapshot.of(updatedPost));
+        postSearchIndex.postChanged(id, updatedPost);
+        dashboardCounters.postUpdated(counted, updatedPost);
+        flagNearDuplicates(updatedPost);
         return blogPostMapper.toDto(updatedPost);
     }
     
     @Override
-    @CacheEvict(value = {"publishedPosts", "postBySlug"}, allEntries = true)
     public BlogPostDto publishPost(Long id) {
         BlogPost post = blogPostRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Blog post not found with id: " + id));
         
+        PostSnapshot before = PostSnapshot.of(post);
+        DashboardCounters.PostState counted = DashboardCounters.PostState.of(post);
         post.setStatus(BlogPost.PostStatus.PUBLISHED);
         BlogPost publishedPost = blogPostRepository.save(post);
+        postCacheInvalidator.postChanged(before, PostSnapshot.of(publishedPost));
+        postSearchIndex.postChanged(id, publishedPost);
+        dashboardCounters.postUpdated(counted, publishedPost);
         return blogPostMapper.toDto(publishedPost);
     }
     
     @Override
-    @CacheEvict(value = {"publishedPosts", "postBySlug"}, allEntries = true)
     public BlogPostDto archivePost(Long id) {
         BlogPost post = blogPostRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Blog post not found with id: " + id));
         
+        PostSnapshot before = PostSnapshot.of(post);
+        DashboardCounters.PostState counted = DashboardCounters.PostState.of(post);
         post.setStatus(BlogPost.PostStatus.ARCHIVED);
         BlogPost archivedPost = blogPostRepository.save(post);
+        postCacheInvalidator.postChanged(before, PostSnapshot.of(archivedPost));
+        postSearchIndex.postChanged(id, archivedPost);
+        dashboardCounters.postUpdated(counted, archivedPost);
         return blogPostMapper.toDto(archivedPost);
     }
     
     @Override
-    @CacheEvict(value = {"publishedPosts", "postBySlug", "allTags"}, allEntries = true)
     public void deletePost(Long id) {
         BlogPost post = blogPostRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Blog post not found with id: " + id));
+        PostSnapshot before = PostSnapshot.of(post);
+        // Cascading the delete loads the comments anyway
+        long comments = post.getComments().size();
         blogPostRepository.delete(post);
+        postCacheInvalidator.postChanged(before, null);
+        postSearchIndex.postChanged(id, null);
+        nearDuplicateIndex.postChanged(id, null);
+        dashboardCounters.postDeleted(post, comments);
+    }
+    
+    // Near-duplicates are accepted but logged, and listed in the admin report
+    private void flagNearDuplicates(BlogPost post) {
+        List<NearDuplicateIndex.Match> matches = nearDuplicateIndex.postChanged(post.getId(), post.getContentFingerprint());
+        if (!matches.isEmpty()) {
+            logger.warn("Post {} is a near-duplicate of posts {}", post.getId(),
+                    matches.stream().map(NearDuplicateIndex.Match::postId).toList());
+        }
     }
     
     @Override
-    public BlogPostDto incrementViewCount(Long id) {
-        BlogPost post = blogPostRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Blog post not found with id: " + id));
-        
-        post.incrementViewCount();
-        BlogPost updatedPost = blogPostRepository.save(post);
-        return blogPostMapper.toDto(updatedPost);
+    @Transactional(readOnly = true)
+    public List<NearDuplicateDto> getNearDuplicates(int limit) {
+        List<NearDuplicateIndex.Pair> pairs = nearDuplicateIndex.report(limit);
+        List<Long> ids = pairs.stream()
+                .flatMap(pair -> Stream.of(pair.postId(), pair.duplicateOfId()))
+                .distinct()
+                .toList();
+        Map<Long, BlogPost> postsById = blogPostRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(BlogPost::getId, Function.identity()));
+        List<NearDuplicateDto> report = new ArrayList<>(pairs.size());
+        for (NearDuplicateIndex.Pair pair : pairs) {
+            BlogPost post = postsById.get(pair.postId());
+            BlogPost original = postsById.get(pair.duplicateOfId());
+            if (post != null && original != null) {
+                report.add(new NearDuplicateDto(post.getId(), post.getSlug(), post.getTitle(),
+                        original.getId(), original.getSlug(), original.getTitle(), pair.distance()));
+            }
+        }
+        return report;
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void incrementViewCount(Long id) {
+        // Buffered in memory and flushed in batches by ViewCountService
+        viewCountService.recordView(id);
+    }
+    
+    // Loads posts by id keeping the given order; ids whose post no longer exists are skipped
+    private List<BlogPost> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, BlogPost> postsById = blogPostRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(BlogPost::getId, Function.identity()));
+        return ids.stream().map(postsById::get).filter(Objects::nonNull).toList();
+    }
+    
+    // Include views that are buffered but not yet flushed to the database
+    private BlogPostDto withPendingViews(BlogPostDto dto) {
+        long pending = viewCountService.getPendingViews(dto.getId());
+        if (pending > 0) {
+            dto.setViewCount((dto.getViewCount() != null ? dto.getViewCount() : 0L) + pending);
+        }
+        return dto;
     }
     
     @Override
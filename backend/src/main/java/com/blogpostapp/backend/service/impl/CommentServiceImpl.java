@@ -1,35 +1,56 @@
 package com.blogpostapp.backend.service.impl;
 
 import com.blogpostapp.backend.dto.CommentDto;
+import com.blogpostapp.backend.dto.CursorSlice;
+import com.blogpostapp.backend.dto.KeysetCursor;
+import com.blogpostapp.backend.dto.PollCursor;
 import com.blogpostapp.backend.entity.BlogPost;
 import com.blogpostapp.backend.entity.Comment;
+import com.blogpostapp.backend.exception.BadRequestException;
 import com.blogpostapp.backend.exception.ResourceNotFoundException;
 import com.blogpostapp.backend.mapper.CommentMapper;
 import com.blogpostapp.backend.repository.BlogPostRepository;
 import com.blogpostapp.backend.repository.CommentRepository;
+import com.blogpostapp.backend.search.AuthorDirectory;
 import com.blogpostapp.backend.service.interfaces.CommentService;
+import com.blogpostapp.backend.stats.DashboardCounters;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class CommentServiceImpl implements CommentService {
     
+    // Longest expected gap between stamping a comment and committing it
+    private static final Duration POLL_OVERLAP = Duration.ofSeconds(5);
+    
     private final CommentRepository commentRepository;
     private final BlogPostRepository blogPostRepository;
     private final CommentMapper commentMapper;
+    private final AuthorDirectory authorDirectory;
+    private final DashboardCounters dashboardCounters;
     
     @Autowired
     public CommentServiceImpl(CommentRepository commentRepository, 
                              BlogPostRepository blogPostRepository,
-                             CommentMapper commentMapper) {
+                             CommentMapper commentMapper,
+                             AuthorDirectory authorDirectory,
+                             DashboardCounters dashboardCounters) {
         this.commentRepository = commentRepository;
         this.blogPostRepository = blogPostRepository;
         this.commentMapper = commentMapper;
+        this.authorDirectory = authorDirectory;
+        this.dashboardCounters = dashboardCounters;
     }
     
     @Override
@@ -39,6 +60,65 @@ public class CommentServiceImpl implements CommentService {
                 .map(commentMapper::toDto);
     }
     
+    // Newest first, going back from the cursor. The first slice also carries the poll cursor of its newest comment,
+    // or of the start of time for a post without comments.
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<CommentDto> getCommentsByPostId(Long postId, String after, int size) {
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        List<Comment> comments = commentRepository.findByBlogPostIdBeforeCursor(postId, cursor.createdAt(), cursor.id(),
+                Limit.of(size + 1));
+        boolean hasNext = comments.size() > size;
+        List<Comment> slice = hasNext ? comments.subList(0, size) : comments;
+        String nextCursor = hasNext ? cursorOf(slice.get(size - 1)) : null;
+        String pollCursor = after == null || after.isBlank() ? pollCursorOf(postId, slice) : null;
+        return new CursorSlice<>(slice.stream().map(commentMapper::toDto).toList(), size, hasNext, nextCursor, pollCursor);
+    }
+    
+    // Only the comments the client has not seen, oldest first, so a polling client pays for the delta.
+    // hasNext means more are waiting, to be fetched right away with the returned poll cursor.
+    // Creation times are stamped before commit, so every poll re-reads POLL_OVERLAP behind the cursor
+    // and skips the ids the cursor has already delivered there.
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<CommentDto> getCommentsSince(Long postId, String since, int size) {
+        if (since == null || since.isBlank()) {
+            throw new BadRequestException("since requires the pollCursor of an earlier response");
+        }
+        PollCursor cursor = PollCursor.decode(since);
+        List<Comment> window = commentRepository.findByBlogPostIdCreatedSince(postId,
+                cursor.createdAt().minus(POLL_OVERLAP), Limit.of(size + 1 + cursor.seen().size()));
+        List<Comment> unseen = window.stream().filter(comment -> !cursor.seen().contains(comment.getId())).toList();
+        boolean hasNext = unseen.size() > size;
+        List<Comment> slice = hasNext ? unseen.subList(0, size) : unseen;
+        if (slice.isEmpty()) {
+            return new CursorSlice<>(List.of(), size, false, null, since);
+        }
+        
+        LocalDateTime newest = slice.get(slice.size() - 1).getCreatedAt();
+        Set<Long> delivered = slice.stream().map(Comment::getId).collect(Collectors.toSet());
+        Set<Long> seen = window.stream()
+                .filter(comment -> !comment.getCreatedAt().isBefore(newest.minus(POLL_OVERLAP)))
+                .map(Comment::getId)
+                .filter(id -> cursor.seen().contains(id) || delivered.contains(id))
+                .collect(Collectors.toSet());
+        String pollCursor = new PollCursor(newest, seen).encode();
+        return new CursorSlice<>(slice.stream().map(commentMapper::toDto).toList(), size, hasNext, null, pollCursor);
+    }
+    
+    private String pollCursorOf(Long postId, List<Comment> newestFirst) {
+        if (newestFirst.isEmpty()) {
+            return PollCursor.START.encode();
+        }
+        LocalDateTime newest = newestFirst.get(0).getCreatedAt();
+        List<Long> seen = commentRepository.findIdsByBlogPostIdCreatedSince(postId, newest.minus(POLL_OVERLAP));
+        return new PollCursor(newest, Set.copyOf(seen)).encode();
+    }
+    
+    private static String cursorOf(Comment comment) {
+        return new KeysetCursor(comment.getCreatedAt(), comment.getId()).encode();
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public Optional<CommentDto> getCommentById(Long id) {
@@ -55,6 +135,8 @@ public class CommentServiceImpl implements CommentService {
         comment.setBlogPost(blogPost);
         
         Comment savedComment = commentRepository.save(comment);
+        authorDirectory.commentsChanged(postId, 1);
+        dashboardCounters.commentAdded(blogPost);
         return commentMapper.toDto(savedComment);
     }
     
@@ -76,6 +158,8 @@ public class CommentServiceImpl implements CommentService {
         Comment comment = commentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Comment not found with id: " + id));
         commentRepository.delete(comment);
+        authorDirectory.commentsChanged(comment.getBlogPost().getId(), -1);
+        dashboardCounters.commentDeleted(comment.getBlogPost());
     }
     
     @Override
@@ -0,0 +1,108 @@
+package com.blogpostapp.backend.service.impl;
+
+import com.blogpostapp.backend.config.PostPageProperties;
+import com.blogpostapp.backend.dto.BlogPostDto;
+import com.blogpostapp.backend.dto.CommentDto;
+import com.blogpostapp.backend.dto.CursorSlice;
+import com.blogpostapp.backend.dto.PostPageDto;
+import com.blogpostapp.backend.exception.ResourceNotFoundException;
+import com.blogpostapp.backend.service.interfaces.BlogPostService;
+import com.blogpostapp.backend.service.interfaces.CommentService;
+import com.blogpostapp.backend.service.interfaces.PostPageService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Builds the post page with one request: the comment slice, comment count and tag list are fetched
+// concurrently on virtual threads, each in its own read-only transaction, and the response waits at
+// most until the deadline. Parts that fail or are still running then are cancelled and left out.
+@Service
+public class PostPageServiceImpl implements PostPageService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(PostPageServiceImpl.class);
+    private static final String COMMENTS = "comments";
+    private static final String COMMENT_COUNT = "commentCount";
+    private static final String TAGS = "tags";
+    
+    private final BlogPostService blogPostService;
+    private final CommentService commentService;
+    private final PostPageProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("post-page-", 0).factory());
+    
+    @Autowired
+    public PostPageServiceImpl(BlogPostService blogPostService, CommentService commentService,
+                               PostPageProperties properties, MeterRegistry meterRegistry) {
+        this.blogPostService = blogPostService;
+        this.commentService = commentService;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Override
+    public PostPageDto getPostPage(String slug) {
+        long deadline = System.nanoTime() + properties.getDeadline().toNanos();
+        // The tag list does not depend on the post, so it is already running while the post is looked up
+        Future<List<String>> tags = executor.submit(blogPostService::getAllTags);
+        BlogPostDto post;
+        try {
+            post = blogPostService.getPostBySlug(slug)
+                    .orElseThrow(() -> new ResourceNotFoundException("Blog post not found with slug: " + slug));
+        } catch (RuntimeException ex) {
+            tags.cancel(true);
+            throw ex;
+        }
+        
+        Long id = post.getId();
+        Future<CursorSlice<CommentDto>> comments = executor.submit(
+                () -> commentService.getCommentsByPostId(id, null, properties.getComments()));
+        Future<Long> commentCount = executor.submit(() -> commentService.getCommentCountByPostId(id));
+        blogPostService.incrementViewCount(id);
+        
+        List<String> unavailable = new ArrayList<>();
+        return new PostPageDto(post,
+                await(comments, COMMENTS, deadline, unavailable),
+                await(commentCount, COMMENT_COUNT, deadline, unavailable),
+                await(tags, TAGS, deadline, unavailable),
+                unavailable);
+    }
+    
+    // Null once the deadline has passed or the part failed; the part is then cancelled and reported
+    private <T> T await(Future<T> part, String name, long deadline, List<String> unavailable) {
+        try {
+            return part.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            logger.debug("Post page part {} missed the deadline", name);
+        } catch (ExecutionException ex) {
+            logger.warn("Post page part {} failed", name, ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        part.cancel(true);
+        unavailable.add(name);
+        Counter.builder("post.page.degraded")
+                .description("Post page parts left out after failing or missing the deadline")
+                .tag("part", name)
+                .register(meterRegistry)
+                .increment();
+        return null;
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
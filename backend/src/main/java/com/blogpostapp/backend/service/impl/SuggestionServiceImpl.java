@@ -0,0 +1,40 @@
+package com.blogpostapp.backend.service.impl;
+
+import com.blogpostapp.backend.dto.SuggestionDto;
+import com.blogpostapp.backend.exception.BadRequestException;
+import com.blogpostapp.backend.search.SuggestionIndex;
+import com.blogpostapp.backend.service.interfaces.SuggestionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import java.util.List;
+import java.util.Locale;
+
+@Service
+public class SuggestionServiceImpl implements SuggestionService {
+    
+    private final SuggestionIndex suggestionIndex;
+    
+    @Autowired
+    public SuggestionServiceImpl(SuggestionIndex suggestionIndex) {
+        this.suggestionIndex = suggestionIndex;
+    }
+    
+    // Answered from memory only; no database access per keystroke
+    @Override
+    public List<SuggestionDto> suggest(String prefix, String type, int limit) {
+        return suggestionIndex.suggest(prefix, parseType(type), Math.min(limit, SuggestionIndex.MAX_LIMIT)).stream()
+                .map(suggestion -> new SuggestionDto(suggestion.type().name(), suggestion.text(), suggestion.slug()))
+                .toList();
+    }
+    
+    private SuggestionIndex.Type parseType(String type) {
+        if (type == null || type.isBlank()) {
+            return null;
+        }
+        try {
+            return SuggestionIndex.Type.valueOf(type.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Unknown suggestion type: " + type + " (expected TITLE, TAG or AUTHOR)");
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.blogpostapp.backend.service.impl;
+
+import com.blogpostapp.backend.dto.TagStatsDto;
+import com.blogpostapp.backend.exception.BadRequestException;
+import com.blogpostapp.backend.search.TagStatistics;
+import com.blogpostapp.backend.service.interfaces.TagService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+@Service
+public class TagServiceImpl implements TagService {
+    
+    private static final Comparator<TagStatistics.TagStats> BY_NAME = Comparator.comparing(TagStatistics.TagStats::tag);
+    
+    private final TagStatistics tagStatistics;
+    
+    @Autowired
+    public TagServiceImpl(TagStatistics tagStatistics) {
+        this.tagStatistics = tagStatistics;
+    }
+    
+    // Answered from memory; the posts table is never read
+    @Override
+    public List<TagStatsDto> getTagStats(String sort, Integer limit) {
+        return tagStatistics.all().stream()
+                .sorted(comparator(sort))
+                .limit(limit != null && limit >= 0 ? limit : Long.MAX_VALUE)
+                .map(stats -> new TagStatsDto(stats.tag(), stats.posts(), stats.views(), stats.lastUsedAt()))
+                .toList();
+    }
+    
+    private Comparator<TagStatistics.TagStats> comparator(String sort) {
+        String key = sort == null ? "posts" : sort.trim().toLowerCase(Locale.ROOT);
+        return switch (key) {
+            case "posts" -> Comparator.comparingLong(TagStatistics.TagStats::posts).reversed().thenComparing(BY_NAME);
+            case "views" -> Comparator.comparingLong(TagStatistics.TagStats::views).reversed().thenComparing(BY_NAME);
+            case "recent" -> Comparator.comparing(TagStatistics.TagStats::lastUsedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(BY_NAME);
+            case "name" -> BY_NAME;
+            default -> throw new BadRequestException("Unknown tag sort: " + sort + " (expected posts, views, recent or name)");
+        };
+    }
+}
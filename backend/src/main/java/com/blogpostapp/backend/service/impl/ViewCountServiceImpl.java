@@ -0,0 +1,114 @@
+package com.blogpostapp.backend.service.impl;
+
+import com.blogpostapp.backend.service.interfaces.ViewCountService;
+import com.blogpostapp.backend.service.interfaces.ViewsFlushedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+@Service
+public class ViewCountServiceImpl implements ViewCountService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ViewCountServiceImpl.class);
+
+    private static final String INCREMENT_SQL =
+            "UPDATE blog_posts SET view_count = COALESCE(view_count, 0) + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    // Views are buffered per post; ConcurrentHashMap locks per bin, so different posts never contend
+    private final ConcurrentHashMap<Long, Long> pendingViews = new ConcurrentHashMap<>();
+    private final LongAdder pendingTotal = new LongAdder();
+    private final Timer flushTimer;
+
+    @Autowired
+    public ViewCountServiceImpl(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry, ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.flushTimer = Timer.builder("blog.viewcount.flush")
+                .description("Time taken to flush buffered view counts")
+                .register(meterRegistry);
+        Gauge.builder("blog.viewcount.pending", pendingTotal, LongAdder::sum)
+                .description("View increments buffered but not yet written")
+                .register(meterRegistry);
+        Gauge.builder("blog.viewcount.pending.posts", pendingViews, Map::size)
+                .description("Posts with buffered view increments")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordView(Long postId) {
+        pendingViews.merge(postId, 1L, Long::sum);
+        pendingTotal.increment();
+    }
+
+    @Override
+    public long getPendingViews(Long postId) {
+        return pendingViews.getOrDefault(postId, 0L);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.view-count.flush-interval-ms:5000}")
+    public synchronized int flush() {
+        if (pendingViews.isEmpty()) {
+            return 0;
+        }
+
+        // Removing each key hands its delta over atomically; views recorded afterwards start a fresh entry
+        List<Object[]> batch = new ArrayList<>();
+        for (Long postId : pendingViews.keySet()) {
+            Long delta = pendingViews.remove(postId);
+            if (delta != null && delta > 0) {
+                batch.add(new Object[]{delta, postId});
+            }
+        }
+
+        long start = System.nanoTime();
+        int[] updated;
+        try {
+            updated = jdbcTemplate.batchUpdate(INCREMENT_SQL, batch);
+            batch.forEach(row -> pendingTotal.add(-(Long) row[0]));
+        } catch (RuntimeException ex) {
+            // Put the deltas back so the next flush retries them
+            batch.forEach(row -> pendingViews.merge((Long) row[1], (Long) row[0], Long::sum));
+            logger.warn("Failed to flush view counts for {} posts, will retry", batch.size(), ex);
+            return 0;
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        // Lets in-memory aggregates such as tag statistics follow the stored counts. Views of posts deleted
+        // since they were recorded updated no row and are left out; a driver that reports no row counts
+        // (SUCCESS_NO_INFO) is trusted.
+        Map<Long, Long> viewsByPost = new HashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            if (updated[i] != 0) {
+                viewsByPost.put((Long) batch.get(i)[1], (Long) batch.get(i)[0]);
+            }
+        }
+        if (!viewsByPost.isEmpty()) {
+            eventPublisher.publishEvent(new ViewsFlushedEvent(viewsByPost));
+        }
+        return viewsByPost.size();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,7 @@
+package com.blogpostapp.backend.service.interfaces;
+
+import com.blogpostapp.backend.dto.AdminStatsDto;
+
+public interface AdminService {
+    AdminStatsDto getDashboardStats();
+}
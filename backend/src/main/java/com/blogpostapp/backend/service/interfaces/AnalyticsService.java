@@ -0,0 +1,7 @@
+package com.blogpostapp.backend.service.interfaces;
+
+import com.blogpostapp.backend.dto.AnalyticsSummaryDto;
+
+public interface AnalyticsService {
+    AnalyticsSummaryDto getSummary(String range);
+}
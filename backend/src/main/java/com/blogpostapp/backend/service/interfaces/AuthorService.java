@@ -0,0 +1,12 @@
+package com.blogpostapp.backend.service.interfaces;
+
+import com.blogpostapp.backend.dto.AuthorStatsDto;
+import com.blogpostapp.backend.dto.BlogPostSummaryDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface AuthorService {
+    Page<AuthorStatsDto> getAuthors(String sort, Pageable pageable);
+    AuthorStatsDto getAuthor(String name);
+    Page<BlogPostSummaryDto> getPublishedPostsByAuthor(String name, Pageable pageable);
+}
@@ -1,7 +1,12 @@
 package com.blogpostapp.backend.service.interfaces;
 
 import com.blogpostapp.backend.dto.BlogPostDto;
+import com.blogpostapp.backend.dto.BlogPostSummaryDto;
+import com.blogpostapp.backend.dto.CursorSlice;
 import com.blogpostapp.backend.dto.CreateBlogPostRequest;
+import com.blogpostapp.backend.dto.NearDuplicateDto;
+import com.blogpostapp.backend.dto.RelatedPostDto;
+import com.blogpostapp.backend.dto.SearchHitDto;
 import com.blogpostapp.backend.entity.BlogPost;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,20 +14,32 @@ import java.util.List;
 import java.util.Optional;
 
 public interface BlogPostService {
-    Page<BlogPostDto> getAllPosts(Pageable pageable);
-    Page<BlogPostDto> getPublishedPosts(Pageable pageable);
+    Page<BlogPostSummaryDto> getAllPosts(Pageable pageable);
+    Page<BlogPostSummaryDto> getAllPosts(Pageable pageable, boolean exactTotal);
+    Page<BlogPostSummaryDto> getPublishedPosts(Pageable pageable);
+    Page<BlogPostSummaryDto> getPublishedPosts(Pageable pageable, boolean exactTotal);
     Optional<BlogPostDto> getPostById(Long id);
     Optional<BlogPostDto> getPostBySlug(String slug);
-    Page<BlogPostDto> getPostsByAuthor(String author, Pageable pageable);
+    Page<BlogPostSummaryDto> getPostsByAuthor(String author, Pageable pageable);
+    Page<BlogPostSummaryDto> getPostsByAuthor(String author, Pageable pageable, boolean exactTotal);
     Page<BlogPostDto> searchPosts(String keyword, Pageable pageable);
-    Page<BlogPostDto> getPostsByTags(List<String> tags, Pageable pageable);
-    Page<BlogPostDto> getPostsByStatus(BlogPost.PostStatus status, Pageable pageable);
+    Page<BlogPostDto> searchPosts(String keyword, Pageable pageable, boolean withFacets);
+    Page<SearchHitDto> searchPostHits(String keyword, Pageable pageable, boolean withFacets);
+    List<RelatedPostDto> getRelatedPosts(Long id, int limit);
+    Page<BlogPostSummaryDto> getPostsByTags(List<String> tags, Pageable pageable);
+    Page<BlogPostSummaryDto> getPostsByTags(List<String> tags, Pageable pageable, boolean exactTotal);
+    Page<BlogPostSummaryDto> getPostsByStatus(BlogPost.PostStatus status, Pageable pageable);
+    Page<BlogPostSummaryDto> getPostsByStatus(BlogPost.PostStatus status, Pageable pageable, boolean exactTotal);
+    CursorSlice<BlogPostSummaryDto> getPostsByStatus(BlogPost.PostStatus status, String after, int size);
+    CursorSlice<BlogPostSummaryDto> getPostsByAuthor(String author, String after, int size);
+    CursorSlice<BlogPostSummaryDto> getPostsByTags(List<String> tags, String after, int size);
     List<String> getAllTags();
     BlogPostDto createPost(CreateBlogPostRequest request);
     BlogPostDto updatePost(Long id, BlogPostDto postDto);
     BlogPostDto publishPost(Long id);
     BlogPostDto archivePost(Long id);
     void deletePost(Long id);
-    BlogPostDto incrementViewCount(Long id);
+    void incrementViewCount(Long id);
     long getPostCount(BlogPost.PostStatus status);
+    List<NearDuplicateDto> getNearDuplicates(int limit);
 }
\ No newline at end of file
@@ -1,12 +1,15 @@
 package com.blogpostapp.backend.service.interfaces;
 
 import com.blogpostapp.backend.dto.CommentDto;
+import com.blogpostapp.backend.dto.CursorSlice;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import java.util.Optional;
 
 public interface CommentService {
     Page<CommentDto> getCommentsByPostId(Long postId, Pageable pageable);
+    CursorSlice<CommentDto> getCommentsByPostId(Long postId, String after, int size);
+    CursorSlice<CommentDto> getCommentsSince(Long postId, String since, int size);
     Optional<CommentDto> getCommentById(Long id);
     CommentDto createComment(Long postId, CommentDto commentDto);
     CommentDto updateComment(Long id, CommentDto commentDto);
@@ -0,0 +1,7 @@
+package com.blogpostapp.backend.service.interfaces;
+
+import com.blogpostapp.backend.dto.PostPageDto;
+
+public interface PostPageService {
+    PostPageDto getPostPage(String slug);
+}
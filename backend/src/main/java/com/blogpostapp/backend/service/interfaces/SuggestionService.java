@@ -0,0 +1,8 @@
+package com.blogpostapp.backend.service.interfaces;
+
+import com.blogpostapp.backend.dto.SuggestionDto;
+import java.util.List;
+
+public interface SuggestionService {
+    List<SuggestionDto> suggest(String prefix, String type, int limit);
+}
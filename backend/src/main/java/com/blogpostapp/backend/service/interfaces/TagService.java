@@ -0,0 +1,8 @@
+package com.blogpostapp.backend.service.interfaces;
+
+import com.blogpostapp.backend.dto.TagStatsDto;
+import java.util.List;
+
+public interface TagService {
+    List<TagStatsDto> getTagStats(String sort, Integer limit);
+}
@@ -0,0 +1,7 @@
+package com.blogpostapp.backend.service.interfaces;
+
+public interface ViewCountService {
+    void recordView(Long postId);
+    long getPendingViews(Long postId);
+    int flush();
+}
@@ -0,0 +1,7 @@
+package com.blogpostapp.backend.service.interfaces;
+
+import java.util.Map;
+
+// Published after buffered view counts have been written, with the views added per post id
+public record ViewsFlushedEvent(Map<Long, Long> viewsByPost) {
+}
@@ -0,0 +1,185 @@
+package com.blogpostapp.backend.stats;
+
+import com.blogpostapp.backend.entity.BlogPost;
+import com.blogpostapp.backend.service.interfaces.ViewsFlushedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Site-wide totals for the admin dashboard: posts per status, views, comments, distinct authors and
+// the latest writes. Seeded once on startup and then adjusted by every post and comment write after
+// it commits, so reading them never touches the database.
+@Component
+public class DashboardCounters {
+    
+    static final int RECENT_ACTIVITY = 10;
+    
+    public enum ActivityType {
+        POST_CREATED, POST_UPDATED, POST_PUBLISHED, POST_ARCHIVED, POST_DELETED, COMMENT_ADDED, COMMENT_DELETED
+    }
+    
+    public record Activity(ActivityType type, Long postId, String title, LocalDateTime at) {
+    }
+    
+    // The counted state of a post, captured before and after a write
+    public record PostState(String author, BlogPost.PostStatus status, long views) {
+        
+        public static PostState of(BlogPost post) {
+            return new PostState(post.getAuthor(), post.getStatus(), post.getViewCount() != null ? post.getViewCount() : 0L);
+        }
+    }
+    
+    public record Snapshot(Map<BlogPost.PostStatus, Long> postsByStatus, long views, long comments, long authors,
+                           List<Activity> recentActivity) {
+    }
+    
+    private final Map<BlogPost.PostStatus, AtomicLong> postsByStatus = new EnumMap<>(BlogPost.PostStatus.class);
+    private final AtomicLong views = new AtomicLong();
+    private final AtomicLong comments = new AtomicLong();
+    // Posts per author; an author is dropped with their last post
+    private final Map<String, Long> postsByAuthor = new ConcurrentHashMap<>();
+    private final Deque<Activity> recentActivity = new ArrayDeque<>(RECENT_ACTIVITY);
+    
+    public DashboardCounters() {
+        for (BlogPost.PostStatus status : BlogPost.PostStatus.values()) {
+            postsByStatus.put(status, new AtomicLong());
+        }
+    }
+    
+    // Replaces every counter; writes committed while the seed queries ran may be counted twice or missed
+    public void seed(Map<BlogPost.PostStatus, Long> statusCounts, long totalViews, long totalComments,
+                     Map<String, Long> authorCounts, List<Activity> activity) {
+        postsByStatus.forEach((status, count) -> count.set(statusCounts.getOrDefault(status, 0L)));
+        views.set(totalViews);
+        comments.set(totalComments);
+        postsByAuthor.clear();
+        postsByAuthor.putAll(authorCounts);
+        synchronized (recentActivity) {
+            recentActivity.clear();
+            activity.stream().limit(RECENT_ACTIVITY).forEach(recentActivity::addLast);
+        }
+    }
+    
+    public void postCreated(BlogPost post) {
+        PostState after = PostState.of(post);
+        Activity activity = activity(ActivityType.POST_CREATED, post);
+        afterCommit(() -> {
+            add(after, 1);
+            record(activity);
+        });
+    }
+    
+    public void postUpdated(PostState before, BlogPost post) {
+        PostState after = PostState.of(post);
+        ActivityType type = ActivityType.POST_UPDATED;
+        if (before.status() != after.status() && after.status() == BlogPost.PostStatus.PUBLISHED) {
+            type = ActivityType.POST_PUBLISHED;
+        } else if (before.status() != after.status() && after.status() == BlogPost.PostStatus.ARCHIVED) {
+            type = ActivityType.POST_ARCHIVED;
+        }
+        Activity activity = activity(type, post);
+        afterCommit(() -> {
+            add(before, -1);
+            add(after, 1);
+            record(activity);
+        });
+    }
+    
+    // Its comments go with the post
+    public void postDeleted(BlogPost post, long postComments) {
+        PostState before = PostState.of(post);
+        Activity activity = activity(ActivityType.POST_DELETED, post);
+        afterCommit(() -> {
+            add(before, -1);
+            comments.addAndGet(-postComments);
+            record(activity);
+        });
+    }
+    
+    public void commentAdded(BlogPost post) {
+        Activity activity = activity(ActivityType.COMMENT_ADDED, post);
+        afterCommit(() -> {
+            comments.incrementAndGet();
+            record(activity);
+        });
+    }
+    
+    public void commentDeleted(BlogPost post) {
+        Activity activity = activity(ActivityType.COMMENT_DELETED, post);
+        afterCommit(() -> {
+            comments.decrementAndGet();
+            record(activity);
+        });
+    }
+    
+    @EventListener
+    public void viewsFlushed(ViewsFlushedEvent event) {
+        views.addAndGet(event.viewsByPost().values().stream().mapToLong(Long::longValue).sum());
+    }
+    
+    public long posts(BlogPost.PostStatus status) {
+        return postsByStatus.get(status).get();
+    }
+    
+    public long posts() {
+        return postsByStatus.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+    
+    public Snapshot snapshot() {
+        Map<BlogPost.PostStatus, Long> statusCounts = new EnumMap<>(BlogPost.PostStatus.class);
+        postsByStatus.forEach((status, count) -> statusCounts.put(status, count.get()));
+        List<Activity> activity;
+        synchronized (recentActivity) {
+            activity = new ArrayList<>(recentActivity);
+        }
+        return new Snapshot(statusCounts, views.get(), comments.get(), postsByAuthor.size(), activity);
+    }
+    
+    private void add(PostState state, long delta) {
+        postsByStatus.get(state.status()).addAndGet(delta);
+        views.addAndGet(delta * state.views());
+        if (state.author() != null) {
+            postsByAuthor.compute(state.author(), (author, count) -> {
+                long updated = (count != null ? count : 0L) + delta;
+                return updated > 0 ? updated : null;
+            });
+        }
+    }
+    
+    private void record(Activity activity) {
+        synchronized (recentActivity) {
+            if (recentActivity.size() == RECENT_ACTIVITY) {
+                recentActivity.removeLast();
+            }
+            recentActivity.addFirst(activity);
+        }
+    }
+    
+    private static Activity activity(ActivityType type, BlogPost post) {
+        return new Activity(type, post.getId(), post.getTitle(), LocalDateTime.now());
+    }
+    
+    // A rolled-back write leaves the counters untouched
+    private static void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+}
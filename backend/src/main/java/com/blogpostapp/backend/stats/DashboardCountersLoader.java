@@ -0,0 +1,55 @@
+package com.blogpostapp.backend.stats;
+
+import com.blogpostapp.backend.entity.BlogPost;
+import com.blogpostapp.backend.repository.BlogPostRepository;
+import com.blogpostapp.backend.repository.CommentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Seeds the dashboard counters on startup; afterwards they are kept up to date by the writes themselves
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class DashboardCountersLoader implements ApplicationRunner {
+    
+    private final BlogPostRepository blogPostRepository;
+    private final CommentRepository commentRepository;
+    private final DashboardCounters dashboardCounters;
+    
+    @Autowired
+    public DashboardCountersLoader(BlogPostRepository blogPostRepository, CommentRepository commentRepository,
+                                   DashboardCounters dashboardCounters) {
+        this.blogPostRepository = blogPostRepository;
+        this.commentRepository = commentRepository;
+        this.dashboardCounters = dashboardCounters;
+    }
+    
+    @Override
+    public void run(ApplicationArguments args) {
+        Map<BlogPost.PostStatus, Long> statusCounts = new EnumMap<>(BlogPost.PostStatus.class);
+        for (BlogPost.PostStatus status : BlogPost.PostStatus.values()) {
+            statusCounts.put(status, blogPostRepository.countByStatus(status));
+        }
+        Map<String, Long> authorCounts = new HashMap<>();
+        for (Object[] row : blogPostRepository.countGroupedByAuthor()) {
+            authorCounts.put((String) row[0], (Long) row[1]);
+        }
+        // Until there are writes to show, recent activity lists the newest posts
+        List<DashboardCounters.Activity> activity = blogPostRepository
+                .findAll(PageRequest.of(0, DashboardCounters.RECENT_ACTIVITY, Sort.by("createdAt").descending()))
+                .map(post -> new DashboardCounters.Activity(DashboardCounters.ActivityType.POST_CREATED,
+                        post.getId(), post.getTitle(), post.getCreatedAt()))
+                .getContent();
+        dashboardCounters.seed(statusCounts, blogPostRepository.sumViewCounts(), commentRepository.count(),
+                authorCounts, activity);
+    }
+}
@@ -0,0 +1,95 @@
+package com.blogpostapp.backend.stats;
+
+import com.blogpostapp.backend.entity.BlogPost;
+import com.blogpostapp.backend.repository.BlogPostRepository;
+import com.blogpostapp.backend.search.TagStatistics;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import java.util.List;
+import java.util.Locale;
+
+// Totals for paginated post listings without a COUNT(*) per page. Status and tag totals come from
+// counters kept up to date by the writes; free-text filters use the Postgres planner's row estimate.
+// Totals may briefly lag a write; callers that need them exact count instead.
+@Component
+public class PostTotals {
+    
+    private static final Logger logger = LoggerFactory.getLogger(PostTotals.class);
+    
+    private final DashboardCounters dashboardCounters;
+    private final TagStatistics tagStatistics;
+    private final BlogPostRepository blogPostRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private volatile Boolean postgres;
+    
+    @Autowired
+    public PostTotals(DashboardCounters dashboardCounters, TagStatistics tagStatistics, BlogPostRepository blogPostRepository,
+                      JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.dashboardCounters = dashboardCounters;
+        this.tagStatistics = tagStatistics;
+        this.blogPostRepository = blogPostRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+    
+    // A page of the slice with the given total, raised to what the slice has already seen so an
+    // estimate that lags behind never hides a page that exists
+    public static <T> Page<T> toPage(Slice<T> slice, long total) {
+        long seen = slice.getPageable().getOffset() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), Math.max(total, seen));
+    }
+    
+    public long all() {
+        return dashboardCounters.posts();
+    }
+    
+    public long byStatus(BlogPost.PostStatus status) {
+        return dashboardCounters.posts(status);
+    }
+    
+    // The tag listing joins posts to their tags, so a post matching two of the tags is listed twice;
+    // the sum of per-tag counts is exactly its row count
+    public long byPublishedTags(List<String> tags) {
+        return tags.stream().distinct().mapToLong(tagStatistics::posts).sum();
+    }
+    
+    public long byAuthorContaining(String author) {
+        if (isPostgres()) {
+            try {
+                return estimate("SELECT 1 FROM blog_posts WHERE LOWER(author) LIKE ?", "%" + author.toLowerCase(Locale.ROOT) + "%");
+            } catch (RuntimeException e) {
+                logger.warn("Could not estimate posts by author, counting instead", e);
+            }
+        }
+        return blogPostRepository.countByAuthorContainingIgnoreCase(author);
+    }
+    
+    // Rows the planner expects the query to return, from table statistics; nothing is executed
+    private long estimate(String sql, Object... args) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + sql, String.class, args);
+        try {
+            JsonNode root = objectMapper.readTree(plan);
+            return root.get(0).get("Plan").get("Plan Rows").asLong();
+        } catch (Exception e) {
+            throw new IllegalStateException("Unexpected plan: " + plan, e);
+        }
+    }
+    
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+        }
+        return postgres;
+    }
+}
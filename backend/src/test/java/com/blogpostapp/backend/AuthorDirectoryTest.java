@@ -0,0 +1,143 @@
+package com.blogpostapp.backend;
+
+import com.blogpostapp.backend.entity.BlogPost;
+import com.blogpostapp.backend.search.AuthorDirectory;
+import com.blogpostapp.backend.search.AuthorDirectory.AuthorStats;
+import com.blogpostapp.backend.search.IndexedPost;
+import com.blogpostapp.backend.search.PostSearchIndex;
+import com.blogpostapp.backend.service.interfaces.ViewsFlushedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthorDirectoryTest {
+
+    private static final LocalDateTime JANUARY = LocalDateTime.of(2024, 1, 15, 10, 0);
+    private static final LocalDateTime MARCH = LocalDateTime.of(2024, 3, 15, 10, 0);
+
+    private PostSearchIndex searchIndex;
+    private AuthorDirectory authorDirectory;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = SearchFixtures.index();
+        authorDirectory = new AuthorDirectory(searchIndex);
+        searchIndex.rebuild(List.of(
+                document(1L, "Jane Smith", 10L, JANUARY),
+                document(2L, "Jane Smith", 5L, MARCH),
+                document(3L, "John Doe", 7L, JANUARY)));
+        authorDirectory.commentsLoaded(Map.of(1L, 2L, 3L, 4L));
+    }
+
+    private IndexedPost document(Long id, String author, Long views, LocalDateTime publishedAt) {
+        BlogPost post = SearchFixtures.post(id);
+        post.setAuthor(author);
+        post.setViewCount(views);
+        post.setPublishedAt(publishedAt);
+        return IndexedPost.of(post, Set.of());
+    }
+
+    @Test
+    void find_ShouldSumPostsViewsAndCommentsAndPickLatestPost() {
+        // When
+        AuthorStats jane = authorDirectory.find("Jane Smith");
+
+        // Then
+        assertEquals(new AuthorStats("Jane Smith", 2, 15, 2, 2L, "post-2", "Post number 2", MARCH, Set.of("Jane Smith")), jane);
+        assertEquals(2, authorDirectory.all().size());
+    }
+
+    @Test
+    void find_ShouldMatchNameIgnoringCaseAndReturnNullForUnknownAuthor() {
+        // When & Then
+        assertEquals("John Doe", authorDirectory.find("  john doe ").name());
+        assertNull(authorDirectory.find("John"));
+    }
+
+    @Test
+    void find_ShouldFollowIncrementalChanges() {
+        // When
+        searchIndex.put(2L, null);
+        searchIndex.put(3L, document(3L, "Jane Smith", 7L, JANUARY.plusDays(1)));
+
+        // Then
+        assertEquals(new AuthorStats("Jane Smith", 2, 17, 6, 3L, "post-3", "Post number 3", JANUARY.plusDays(1),
+                Set.of("Jane Smith")),
+                authorDirectory.find("Jane Smith"));
+        assertNull(authorDirectory.find("John Doe"));
+    }
+
+    @Test
+    void find_ShouldKeepEveryStoredSpellingOfTheAuthor() {
+        // When
+        searchIndex.put(4L, document(4L, "jane smith ", 1L, JANUARY));
+
+        // Then
+        AuthorStats jane = authorDirectory.find("Jane Smith");
+        assertEquals(3, jane.posts());
+        assertEquals(Set.of("Jane Smith", "jane smith "), jane.spellings());
+
+        // When
+        searchIndex.put(4L, null);
+
+        // Then
+        assertEquals(Set.of("Jane Smith"), authorDirectory.find("Jane Smith").spellings());
+    }
+
+    @Test
+    void commentsChanged_ShouldAdjustTheAuthorOfThePost() {
+        // When
+        authorDirectory.commentsChanged(2L, 1);
+        authorDirectory.commentsChanged(1L, -1);
+
+        // Then
+        assertEquals(2, authorDirectory.find("Jane Smith").comments());
+    }
+
+    @Test
+    void commentsChanged_ShouldOnlyCountOnceTheTransactionCommits() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            authorDirectory.commentsChanged(2L, 1);
+            assertEquals(2, authorDirectory.find("Jane Smith").comments());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertEquals(3, authorDirectory.find("Jane Smith").comments());
+    }
+
+    @Test
+    void viewsFlushed_ShouldAddViewsToTheAuthorOfThePost() {
+        // When
+        authorDirectory.viewsFlushed(new ViewsFlushedEvent(Map.of(2L, 3L, 3L, 1L)));
+
+        // Then
+        assertEquals(18, authorDirectory.find("Jane Smith").views());
+        assertEquals(8, authorDirectory.find("John Doe").views());
+    }
+
+    @Test
+    void postIndexed_ShouldKeepFlushedViewsWhenAPostIsReindexed() {
+        // Given
+        authorDirectory.viewsFlushed(new ViewsFlushedEvent(Map.of(2L, 3L)));
+
+        // When
+        searchIndex.put(2L, document(2L, "Jane Smith", 5L, MARCH));
+
+        // Then
+        assertEquals(18, authorDirectory.find("Jane Smith").views());
+    }
+}
@@ -2,9 +2,11 @@ package com.blogpostapp.backend;
 
 import com.blogpostapp.backend.controller.BlogPostController;
 import com.blogpostapp.backend.dto.BlogPostDto;
+import com.blogpostapp.backend.dto.BlogPostSummaryDto;
 import com.blogpostapp.backend.dto.CreateBlogPostRequest;
 import com.blogpostapp.backend.entity.BlogPost;
 import com.blogpostapp.backend.service.interfaces.BlogPostService;
+import com.blogpostapp.backend.service.interfaces.PostPageService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -35,10 +37,14 @@ class BlogPostControllerTest {
     @MockBean
     private BlogPostService blogPostService;
 
+    @MockBean
+    private PostPageService postPageService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
     private BlogPostDto sampleBlogPost;
+    private BlogPostSummaryDto sampleSummary;
     private CreateBlogPostRequest sampleRequest;
 
     @BeforeEach
@@ -56,6 +62,11 @@ class BlogPostControllerTest {
         sampleBlogPost.setCreatedAt(LocalDateTime.now());
         sampleBlogPost.setCommentCount(5);
 
+        sampleSummary = new BlogPostSummaryDto(1L, "Test Blog Post", "test-blog-post", "John Doe", "Test summary", null,
+                BlogPost.PostStatus.PUBLISHED, 10L, LocalDateTime.now(), null, null);
+        sampleSummary.setTags(Set.of("technology", "java"));
+        sampleSummary.setCommentCount(5);
+
         sampleRequest = new CreateBlogPostRequest();
         sampleRequest.setTitle("New Blog Post");
         sampleRequest.setContent("This is new content for testing");
@@ -67,7 +78,7 @@ class BlogPostControllerTest {
     @Test
     void getAllPosts_ShouldReturnPagedPosts() throws Exception {
         // Given
-        Page<BlogPostDto> mockPage = new PageImpl<>(List.of(sampleBlogPost));
+        Page<BlogPostSummaryDto> mockPage = new PageImpl<>(List.of(sampleSummary));
         when(blogPostService.getAllPosts(any(Pageable.class))).thenReturn(mockPage);
 
         // When & Then
@@ -87,7 +98,7 @@ class BlogPostControllerTest {
     @Test
     void getAllPosts_WithInvalidSortDirection_ShouldUseAscending() throws Exception {
         // Given
-        Page<BlogPostDto> mockPage = new PageImpl<>(List.of(sampleBlogPost));
+        Page<BlogPostSummaryDto> mockPage = new PageImpl<>(List.of(sampleSummary));
         when(blogPostService.getAllPosts(any(Pageable.class))).thenReturn(mockPage);
 
         // When & Then
@@ -229,7 +240,7 @@ class BlogPostControllerTest {
     @Test
     void getPublishedPosts_ShouldReturnOnlyPublishedPosts() throws Exception {
         // Given
-        Page<BlogPostDto> mockPage = new PageImpl<>(List.of(sampleBlogPost));
+        Page<BlogPostSummaryDto> mockPage = new PageImpl<>(List.of(sampleSummary));
         when(blogPostService.getPublishedPosts(any(Pageable.class))).thenReturn(mockPage);
 
         // When & Then
@@ -269,7 +280,7 @@ class BlogPostControllerTest {
     void searchPosts_WithKeyword_ShouldReturnMatchingPosts() throws Exception {
         // Given
         Page<BlogPostDto> mockPage = new PageImpl<>(List.of(sampleBlogPost));
-        when(blogPostService.searchPosts(eq("test"), any(Pageable.class))).thenReturn(mockPage);
+        when(blogPostService.searchPosts(eq("test"), any(Pageable.class), eq(false))).thenReturn(mockPage);
 
         // When & Then
         mockMvc.perform(get("/api/v1/posts/search")
@@ -277,13 +288,13 @@ class BlogPostControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content[0].title").value("Test Blog Post"));
 
-        verify(blogPostService).searchPosts(eq("test"), any(Pageable.class));
+        verify(blogPostService).searchPosts(eq("test"), any(Pageable.class), eq(false));
     }
 
     @Test
     void getPostsByTags_WithValidTags_ShouldReturnFilteredPosts() throws Exception {
         // Given
-        Page<BlogPostDto> mockPage = new PageImpl<>(List.of(sampleBlogPost));
+        Page<BlogPostSummaryDto> mockPage = new PageImpl<>(List.of(sampleSummary));
         when(blogPostService.getPostsByTags(anyList(), any(Pageable.class))).thenReturn(mockPage);
 
         // When & Then
@@ -298,7 +309,7 @@ class BlogPostControllerTest {
     @Test
     void getPostsByAuthor_ValidAuthor_ShouldReturnAuthorPosts() throws Exception {
         // Given
-        Page<BlogPostDto> mockPage = new PageImpl<>(List.of(sampleBlogPost));
+        Page<BlogPostSummaryDto> mockPage = new PageImpl<>(List.of(sampleSummary));
         when(blogPostService.getPostsByAuthor(eq("John Doe"), any(Pageable.class))).thenReturn(mockPage);
 
         // When & Then
@@ -312,7 +323,7 @@ class BlogPostControllerTest {
     @Test
     void getPostsByStatus_ValidStatus_ShouldReturnFilteredPosts() throws Exception {
         // Given
-        Page<BlogPostDto> mockPage = new PageImpl<>(List.of(sampleBlogPost));
+        Page<BlogPostSummaryDto> mockPage = new PageImpl<>(List.of(sampleSummary));
         when(blogPostService.getPostsByStatus(eq(BlogPost.PostStatus.PUBLISHED), any(Pageable.class)))
                 .thenReturn(mockPage);
 
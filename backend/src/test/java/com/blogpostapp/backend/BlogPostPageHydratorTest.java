@@ -0,0 +1,86 @@
+package com.blogpostapp.backend;
+
+import com.blogpostapp.backend.dto.BlogPostDto;
+import com.blogpostapp.backend.entity.BlogPost;
+import com.blogpostapp.backend.mapper.BlogPostMapper;
+import com.blogpostapp.backend.mapper.BlogPostPageHydrator;
+import com.blogpostapp.backend.repository.BlogPostRepository;
+import com.blogpostapp.backend.repository.CommentRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BlogPostPageHydratorTest {
+
+    @Mock
+    private BlogPostRepository blogPostRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private BlogPostMapper blogPostMapper;
+
+    @InjectMocks
+    private BlogPostPageHydrator blogPostPageHydrator;
+
+    private BlogPost post(long id) {
+        BlogPost post = new BlogPost();
+        post.setId(id);
+        post.setTitle("Post number " + id);
+        return post;
+    }
+
+    private BlogPostDto dto(long id) {
+        BlogPostDto dto = new BlogPostDto();
+        dto.setId(id);
+        return dto;
+    }
+
+    @Test
+    void hydrate_ShouldFillTagsAndCommentCountsWithOneQueryEach() {
+        // Given
+        BlogPost first = post(1L);
+        BlogPost second = post(2L);
+        Page<BlogPost> page = new PageImpl<>(List.of(first, second));
+        when(blogPostMapper.toDtoWithoutAssociations(first)).thenReturn(dto(1L));
+        when(blogPostMapper.toDtoWithoutAssociations(second)).thenReturn(dto(2L));
+        when(blogPostRepository.findTagsByPostIds(List.of(1L, 2L))).thenReturn(List.of(
+                new Object[]{1L, "java"}, new Object[]{1L, "spring"}, new Object[]{2L, "react"}));
+        when(commentRepository.countByBlogPostIds(List.of(1L, 2L))).thenReturn(List.<Object[]>of(
+                new Object[]{1L, 4L}));
+
+        // When
+        Page<BlogPostDto> result = blogPostPageHydrator.hydrate(page);
+
+        // Then
+        assertEquals(Set.of("java", "spring"), result.getContent().get(0).getTags());
+        assertEquals(4, result.getContent().get(0).getCommentCount());
+        assertEquals(Set.of("react"), result.getContent().get(1).getTags());
+        assertEquals(0, result.getContent().get(1).getCommentCount());
+        verify(blogPostRepository, times(1)).findTagsByPostIds(anyCollection());
+        verify(commentRepository, times(1)).countByBlogPostIds(anyCollection());
+        verify(blogPostMapper, never()).toDto(any());
+    }
+
+    @Test
+    void hydrate_WhenPageEmpty_ShouldNotQueryAssociations() {
+        // When
+        Page<BlogPostDto> result = blogPostPageHydrator.hydrate(Page.empty());
+
+        // Then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(blogPostRepository, commentRepository);
+    }
+}
@@ -0,0 +1,80 @@
+package com.blogpostapp.backend;
+
+import com.blogpostapp.backend.cache.CacheProperties;
+import com.blogpostapp.backend.cache.CacheWarmer;
+import com.blogpostapp.backend.config.CacheConfig;
+import com.blogpostapp.backend.entity.BlogPost;
+import com.blogpostapp.backend.repository.BlogPostRepository;
+import com.blogpostapp.backend.service.interfaces.BlogPostService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheWarmerTest {
+
+    @Mock
+    private BlogPostService blogPostService;
+
+    @Mock
+    private BlogPostRepository blogPostRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CacheWarmer cacheWarmer;
+
+    @BeforeEach
+    void setUp() {
+        CacheProperties cacheProperties = new CacheProperties();
+        cacheProperties.getWarmup().setPublishedPages(2);
+        cacheProperties.getWarmup().setTopSlugs(2);
+        meterRegistry = new SimpleMeterRegistry();
+        cacheWarmer = new CacheWarmer(blogPostService, blogPostRepository, cacheProperties, meterRegistry);
+    }
+
+    @Test
+    void warmUp_ShouldLoadPagesTopSlugsAndTags() {
+        // Given
+        when(blogPostRepository.findMostViewedSlugs(eq(BlogPost.PostStatus.PUBLISHED), any(Pageable.class)))
+                .thenReturn(List.of("popular", "also-popular"));
+        when(blogPostService.getPublishedPosts(any(Pageable.class))).thenReturn(Page.empty());
+        when(blogPostService.getPostBySlug(anyString())).thenReturn(Optional.empty());
+        when(blogPostService.getAllTags()).thenReturn(List.of("java"));
+
+        // When
+        int loaded = cacheWarmer.warmUp(List.of(CacheConfig.PUBLISHED_POSTS, CacheConfig.POST_BY_SLUG, CacheConfig.ALL_TAGS));
+
+        // Then
+        assertEquals(5, loaded);
+        verify(blogPostService, times(2)).getPublishedPosts(any(Pageable.class));
+        verify(blogPostService).getPostBySlug("popular");
+        verify(blogPostService).getPostBySlug("also-popular");
+        assertEquals(5.0, meterRegistry.get("cache.warmup.entries").gauge().value());
+        assertEquals(1.0, meterRegistry.get("cache.warmup.runs").counter().count());
+    }
+
+    @Test
+    void warmUp_WhenALoadFails_ShouldCountOnlySuccessfulLoads() {
+        // Given
+        when(blogPostService.getAllTags()).thenThrow(new RuntimeException("Database unavailable"));
+
+        // When
+        int loaded = cacheWarmer.warmUp(List.of(CacheConfig.ALL_TAGS));
+
+        // Then
+        assertEquals(0, loaded);
+        verify(blogPostService, never()).getPublishedPosts(any(Pageable.class));
+        verifyNoInteractions(blogPostRepository);
+    }
+}
@@ -0,0 +1,175 @@
+package com.blogpostapp.backend;
+
+import com.blogpostapp.backend.cache.CacheProperties;
+import com.blogpostapp.backend.cache.CoalescingCaffeineCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoalescingCaffeineCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CoalescingCaffeineCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = CoalescingCaffeineCache.create("postBySlug", new CacheProperties.Spec(), null, meterRegistry);
+    }
+
+    private CoalescingCaffeineCache staleWhileRevalidateCache(Duration softTtl) {
+        CacheProperties.Spec spec = new CacheProperties.Spec();
+        spec.setSoftTtl(softTtl);
+        // Runs refreshes inline so the tests are deterministic
+        return CoalescingCaffeineCache.create("publishedPosts", spec, Runnable::run, meterRegistry);
+    }
+
+    @Test
+    void get_WhenConcurrentMissesOnSameKey_ShouldLoadOnce() throws Exception {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Callable<String> loader = () -> {
+            loads.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            return "value";
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> cache.get("hot-post", loader)));
+        }
+        while (meterRegistry.get("cache.loads.coalesced").counter().count() < 7) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        // Then
+        for (Future<String> result : results) {
+            assertEquals("value", result.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        assertEquals(1, loads.get());
+        assertEquals(7.0, meterRegistry.get("cache.loads.coalesced").tag("cache", "postBySlug").counter().count());
+        assertEquals(0, cache.getInFlightLoads());
+    }
+
+    @Test
+    void get_WhenValueCached_ShouldNotCallLoader() {
+        // Given
+        cache.put("post", "cached");
+
+        // When
+        String result = cache.get("post", () -> fail("loader should not run"));
+
+        // Then
+        assertEquals("cached", result);
+    }
+
+    @Test
+    void get_WhenMissed_ShouldRecordASingleMiss() {
+        // When
+        cache.get("post", () -> "loaded");
+        cache.get("post", () -> fail("loader should not run"));
+
+        // Then
+        assertEquals(1, cache.getNativeCache().stats().missCount());
+        assertEquals(1, cache.getNativeCache().stats().hitCount());
+    }
+
+    @Test
+    void get_WhenEvictedDuringLoad_ShouldNotCacheOldData() {
+        // When
+        String result = cache.get("post", () -> {
+            cache.evict("post");
+            return "loaded before the write";
+        });
+
+        // Then
+        assertEquals("loaded before the write", result);
+        assertNull(cache.get("post"));
+    }
+
+    @Test
+    void get_WhenLoaderFails_ShouldPropagateAndAllowRetry() {
+        // When & Then
+        assertThrows(Cache.ValueRetrievalException.class,
+                () -> cache.get("post", () -> { throw new IllegalStateException("db down"); }));
+        assertEquals("loaded", cache.get("post", () -> "loaded"));
+        assertEquals(0, cache.getInFlightLoads());
+    }
+
+    @Test
+    void get_WhenPastSoftTtl_ShouldServeStaleAndRefresh() {
+        // Given
+        CoalescingCaffeineCache swr = staleWhileRevalidateCache(Duration.ZERO);
+        swr.put("0-10", "old page");
+
+        // When
+        String first = swr.get("0-10", () -> "new page");
+        String second = swr.get("0-10", () -> "newer page");
+
+        // Then
+        assertEquals("old page", first);
+        assertEquals("new page", second);
+        assertEquals(2.0, meterRegistry.get("cache.refreshes").tag("cache", "publishedPosts").tag("result", "success").counter().count());
+    }
+
+    @Test
+    void get_WhenMarkedStale_ShouldServeOldValueOnceThenFreshOne() {
+        // Given
+        CoalescingCaffeineCache swr = staleWhileRevalidateCache(Duration.ofMinutes(5));
+        swr.put("0-10", "old page");
+        swr.markStale("0-10");
+
+        // When
+        String first = swr.get("0-10", () -> "new page");
+        String second = swr.get("0-10", () -> fail("fresh entry should not refresh"));
+
+        // Then
+        assertEquals("old page", first);
+        assertEquals("new page", second);
+    }
+
+    @Test
+    void get_WhenRefreshFails_ShouldKeepServingStaleValue() {
+        // Given
+        CoalescingCaffeineCache swr = staleWhileRevalidateCache(Duration.ZERO);
+        swr.put("0-10", "old page");
+
+        // When
+        String result = swr.get("0-10", () -> { throw new IllegalStateException("db down"); });
+
+        // Then
+        assertEquals("old page", result);
+        assertEquals("old page", swr.get("0-10").get());
+        assertEquals(1.0, meterRegistry.get("cache.refreshes").tag("cache", "publishedPosts").tag("result", "failure").counter().count());
+    }
+
+    @Test
+    void get_WhenEvictedDuringRefresh_ShouldNotRecacheOldData() {
+        // Given
+        CoalescingCaffeineCache swr = staleWhileRevalidateCache(Duration.ZERO);
+        swr.put("0-10", "old page");
+
+        // When
+        swr.get("0-10", () -> {
+            swr.evict("0-10");
+            return "loaded before the write";
+        });
+
+        // Then
+        assertNull(swr.get("0-10"));
+    }
+}
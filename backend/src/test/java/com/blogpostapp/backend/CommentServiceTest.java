@@ -7,7 +7,9 @@ import com.blogpostapp.backend.exception.ResourceNotFoundException;
 import com.blogpostapp.backend.mapper.CommentMapper;
 import com.blogpostapp.backend.repository.BlogPostRepository;
 import com.blogpostapp.backend.repository.CommentRepository;
+import com.blogpostapp.backend.search.AuthorDirectory;
 import com.blogpostapp.backend.service.impl.CommentServiceImpl;
+import com.blogpostapp.backend.stats.DashboardCounters;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -40,6 +42,12 @@ class CommentServiceTest {
     @Mock
     private CommentMapper commentMapper;
 
+    @Mock
+    private AuthorDirectory authorDirectory;
+
+    @Mock
+    private DashboardCounters dashboardCounters;
+
     @InjectMocks
     private CommentServiceImpl commentService;
 
@@ -170,6 +178,7 @@ class CommentServiceTest {
         verify(commentMapper).toEntity(newCommentDto);
         verify(commentRepository).save(any(Comment.class));
         verify(commentMapper).toDto(sampleComment);
+        verify(dashboardCounters).commentAdded(sampleBlogPost);
     }
 
     @Test
@@ -245,6 +254,7 @@ class CommentServiceTest {
         // Then
         verify(commentRepository).findById(1L);
         verify(commentRepository).delete(sampleComment);
+        verify(authorDirectory).commentsChanged(sampleComment.getBlogPost().getId(), -1);
     }
 
     @Test
@@ -0,0 +1,109 @@
+package com.blogpostapp.backend;
+
+import com.blogpostapp.backend.entity.BlogPost;
+import com.blogpostapp.backend.service.interfaces.ViewsFlushedEvent;
+import com.blogpostapp.backend.stats.DashboardCounters;
+import com.blogpostapp.backend.stats.DashboardCounters.ActivityType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DashboardCountersTest {
+
+    private DashboardCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        counters = new DashboardCounters();
+        counters.seed(Map.of(BlogPost.PostStatus.PUBLISHED, 2L, BlogPost.PostStatus.DRAFT, 1L), 30L, 4L,
+                Map.of("Jane Smith", 2L, "John Doe", 1L),
+                List.of(new DashboardCounters.Activity(ActivityType.POST_CREATED, 3L, "Post number 3", LocalDateTime.now())));
+    }
+
+    private BlogPost post(Long id, String author, BlogPost.PostStatus status, Long views) {
+        BlogPost post = new BlogPost();
+        post.setId(id);
+        post.setTitle("Post number " + id);
+        post.setAuthor(author);
+        post.setStatus(status);
+        post.setViewCount(views);
+        return post;
+    }
+
+    @Test
+    void snapshot_ShouldReturnSeededCounts() {
+        // When
+        DashboardCounters.Snapshot snapshot = counters.snapshot();
+
+        // Then
+        assertEquals(2L, snapshot.postsByStatus().get(BlogPost.PostStatus.PUBLISHED));
+        assertEquals(1L, snapshot.postsByStatus().get(BlogPost.PostStatus.DRAFT));
+        assertEquals(0L, snapshot.postsByStatus().get(BlogPost.PostStatus.ARCHIVED));
+        assertEquals(30L, snapshot.views());
+        assertEquals(4L, snapshot.comments());
+        assertEquals(2L, snapshot.authors());
+        assertEquals(1, snapshot.recentActivity().size());
+    }
+
+    @Test
+    void postWrites_ShouldMoveCountsBetweenStatusesAndAuthors() {
+        // Given
+        BlogPost post = post(4L, "New Author", BlogPost.PostStatus.DRAFT, 0L);
+
+        // When
+        counters.postCreated(post);
+        DashboardCounters.PostState before = DashboardCounters.PostState.of(post);
+        post.setStatus(BlogPost.PostStatus.PUBLISHED);
+        counters.postUpdated(before, post);
+        counters.postDeleted(post(2L, "John Doe", BlogPost.PostStatus.PUBLISHED, 10L), 3);
+
+        // Then
+        DashboardCounters.Snapshot snapshot = counters.snapshot();
+        assertEquals(2L, snapshot.postsByStatus().get(BlogPost.PostStatus.PUBLISHED));
+        assertEquals(1L, snapshot.postsByStatus().get(BlogPost.PostStatus.DRAFT));
+        assertEquals(20L, snapshot.views());
+        assertEquals(1L, snapshot.comments());
+        assertEquals(2L, snapshot.authors());
+        assertEquals(List.of(ActivityType.POST_DELETED, ActivityType.POST_PUBLISHED, ActivityType.POST_CREATED,
+                        ActivityType.POST_CREATED),
+                snapshot.recentActivity().stream().map(DashboardCounters.Activity::type).toList());
+    }
+
+    @Test
+    void commentsAndViews_ShouldAdjustTotals() {
+        // Given
+        BlogPost post = post(1L, "Jane Smith", BlogPost.PostStatus.PUBLISHED, 20L);
+
+        // When
+        counters.commentAdded(post);
+        counters.commentAdded(post);
+        counters.commentDeleted(post);
+        counters.viewsFlushed(new ViewsFlushedEvent(Map.of(1L, 5L, 2L, 2L)));
+
+        // Then
+        DashboardCounters.Snapshot snapshot = counters.snapshot();
+        assertEquals(5L, snapshot.comments());
+        assertEquals(37L, snapshot.views());
+    }
+
+    @Test
+    void recentActivity_ShouldKeepOnlyTheNewestEntries() {
+        // Given
+        BlogPost post = post(1L, "Jane Smith", BlogPost.PostStatus.PUBLISHED, 20L);
+
+        // When
+        for (int i = 0; i < 15; i++) {
+            counters.commentAdded(post);
+        }
+
+        // Then
+        List<DashboardCounters.Activity> activity = counters.snapshot().recentActivity();
+        assertEquals(10, activity.size());
+        assertTrue(activity.stream().allMatch(entry -> entry.type() == ActivityType.COMMENT_ADDED));
+    }
+}
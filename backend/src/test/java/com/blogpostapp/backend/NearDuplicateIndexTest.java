@@ -0,0 +1,119 @@
+package com.blogpostapp.backend;
+
+import com.blogpostapp.backend.search.NearDuplicateIndex;
+import com.blogpostapp.backend.search.NearDuplicateIndex.Match;
+import com.blogpostapp.backend.search.NearDuplicateIndex.Pair;
+import com.blogpostapp.backend.search.SearchProperties;
+import com.blogpostapp.backend.search.SimHash;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NearDuplicateIndexTest {
+
+    private static final String ORIGINAL = "Spring Boot makes it easy to create stand-alone, production-grade applications "
+            + "that you can just run. We take an opinionated view of the platform and third-party libraries so you can "
+            + "get started with minimum fuss. Most applications need very little configuration, and the embedded server "
+            + "means there is nothing to deploy. Starters bundle the dependencies for common tasks such as web services, "
+            + "data access and security, and actuator endpoints report health and metrics in production.";
+    private static final String COPY = "Spring Boot makes it easy to create stand-alone, production grade applications "
+            + "that you can simply run. We take an opinionated view of the platform and third-party libraries so you can "
+            + "get started with minimum fuss. Most applications need very little configuration, and the embedded server "
+            + "means there is nothing to deploy. Starters bundle the dependencies for common tasks such as web services, "
+            + "data access and security, and actuator endpoints report health and metrics in production!";
+    private static final String OTHER = "React hooks let function components keep state and run effects. Custom hooks "
+            + "share logic between components without render props or higher-order components, and the rules of hooks "
+            + "keep their order stable between renders so state lines up with the right call.";
+
+    private NearDuplicateIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NearDuplicateIndex(new SearchProperties());
+        index.rebuild(Map.of(
+                1L, SimHash.fingerprint(ORIGINAL),
+                2L, SimHash.fingerprint(OTHER)));
+    }
+
+    @Test
+    void fingerprint_ShouldKeepLightlyEditedCopiesClose() {
+        // When
+        long original = SimHash.fingerprint(ORIGINAL);
+
+        // Then
+        assertEquals(original, SimHash.fingerprint(ORIGINAL.toUpperCase()));
+        assertTrue(SimHash.distance(original, SimHash.fingerprint(COPY)) <= 6);
+        assertTrue(SimHash.distance(original, SimHash.fingerprint(OTHER)) > 20);
+    }
+
+    @Test
+    void postChanged_ShouldReturnNearDuplicates() {
+        // When
+        List<Match> matches = index.postChanged(3L, SimHash.fingerprint(COPY));
+
+        // Then
+        assertEquals(List.of(1L), matches.stream().map(Match::postId).toList());
+        assertTrue(index.postChanged(4L, SimHash.fingerprint("A completely different post about Kubernetes operators")).isEmpty());
+    }
+
+    @Test
+    void report_ShouldListEachPairOnceUntilRemoved() {
+        // Given
+        index.postChanged(3L, SimHash.fingerprint(COPY));
+
+        // When
+        List<Pair> report = index.report(10);
+
+        // Then
+        assertEquals(1, report.size());
+        assertEquals(3L, report.get(0).postId());
+        assertEquals(1L, report.get(0).duplicateOfId());
+
+        index.postChanged(1L, null);
+        assertTrue(index.report(10).isEmpty());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void postChanged_ShouldOnlyRecordTheFingerprintOnceTheTransactionCommits() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            List<Match> matches = index.postChanged(3L, SimHash.fingerprint(COPY));
+            assertEquals(List.of(1L), matches.stream().map(Match::postId).toList());
+            assertEquals(2, index.size());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertEquals(3, index.size());
+        assertEquals(List.of(3L), index.find(SimHash.fingerprint(ORIGINAL), 1L).stream().map(Match::postId).toList());
+    }
+
+    @Test
+    void postChanged_WhenTransactionRollsBack_ShouldLeaveIndexUntouched() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            index.postChanged(1L, null);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertEquals(2, index.size());
+        assertEquals(List.of(1L), index.find(SimHash.fingerprint(COPY), null).stream().map(Match::postId).toList());
+    }
+}
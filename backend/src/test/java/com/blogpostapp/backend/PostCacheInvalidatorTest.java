@@ -0,0 +1,160 @@
+package com.blogpostapp.backend;
+
+import com.blogpostapp.backend.cache.PostCacheInvalidator;
+import com.blogpostapp.backend.cache.PostSnapshot;
+import com.blogpostapp.backend.config.CacheConfig;
+import com.blogpostapp.backend.dto.BlogPostDto;
+import com.blogpostapp.backend.entity.BlogPost;
+import com.blogpostapp.backend.repository.BlogPostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostCacheInvalidatorTest {
+
+    @Mock
+    private BlogPostRepository blogPostRepository;
+
+    private CaffeineCacheManager cacheManager;
+    private PostCacheInvalidator invalidator;
+    private Cache publishedPosts;
+    private Cache postBySlug;
+    private Cache allTags;
+
+    private final LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CaffeineCacheManager(CacheConfig.PUBLISHED_POSTS, CacheConfig.POST_BY_SLUG, CacheConfig.ALL_TAGS);
+        invalidator = new PostCacheInvalidator(cacheManager, blogPostRepository);
+        publishedPosts = cacheManager.getCache(CacheConfig.PUBLISHED_POSTS);
+        postBySlug = cacheManager.getCache(CacheConfig.POST_BY_SLUG);
+        allTags = cacheManager.getCache(CacheConfig.ALL_TAGS);
+
+        // Three cached pages of size 10, plus an unrelated slug and the tag list
+        for (int page = 0; page < 3; page++) {
+            publishedPosts.put(page + "-10", fullPage(page, 30));
+        }
+        postBySlug.put("other-post", Optional.of(new BlogPostDto()));
+        allTags.put("allTags", List.of("java"));
+    }
+
+    private Page<BlogPostDto> fullPage(int page, long total) {
+        List<BlogPostDto> content = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            content.add(new BlogPostDto());
+        }
+        return new PageImpl<>(content, PageRequest.of(page, 10), total);
+    }
+
+    private PostSnapshot snapshot(String slug, BlogPost.PostStatus status, Set<String> tags) {
+        return new PostSnapshot(1L, slug, status, createdAt, tags);
+    }
+
+    private void postAtPosition(long position) {
+        when(blogPostRepository.countByStatusAndCreatedAtAfter(BlogPost.PostStatus.PUBLISHED, createdAt)).thenReturn(position);
+        when(blogPostRepository.countByStatusAndCreatedAtGreaterThanEqual(BlogPost.PostStatus.PUBLISHED, createdAt)).thenReturn(position + 1);
+    }
+
+    @Test
+    void postChanged_WhenPublishedPostEditedInPlace_ShouldEvictOnlyItsPageAndSlugs() {
+        // Given
+        postAtPosition(12);
+
+        // When
+        invalidator.postChanged(
+                snapshot("old-title", BlogPost.PostStatus.PUBLISHED, Set.of("java")),
+                snapshot("new-title", BlogPost.PostStatus.PUBLISHED, Set.of("java")));
+
+        // Then
+        assertNotNull(publishedPosts.get("0-10"));
+        assertNull(publishedPosts.get("1-10"));
+        assertNotNull(publishedPosts.get("2-10"));
+        assertNotNull(postBySlug.get("other-post"));
+        assertNotNull(allTags.get("allTags"));
+        verify(blogPostRepository, never()).countByStatus(any());
+    }
+
+    @Test
+    void postChanged_WhenSlugChanges_ShouldEvictOldAndNewSlug() {
+        // Given
+        postBySlug.put("old-title", Optional.of(new BlogPostDto()));
+        postBySlug.put("new-title", Optional.empty());
+
+        // When
+        invalidator.postChanged(
+                snapshot("old-title", BlogPost.PostStatus.DRAFT, Set.of()),
+                snapshot("new-title", BlogPost.PostStatus.DRAFT, Set.of()));
+
+        // Then
+        assertNull(postBySlug.get("old-title"));
+        assertNull(postBySlug.get("new-title"));
+        assertNotNull(postBySlug.get("other-post"));
+    }
+
+    @Test
+    void postChanged_WhenDraftEdited_ShouldNotTouchPublishedPages() {
+        // When
+        invalidator.postChanged(
+                snapshot("draft", BlogPost.PostStatus.DRAFT, Set.of("java")),
+                snapshot("draft", BlogPost.PostStatus.DRAFT, Set.of("spring")));
+
+        // Then
+        assertNotNull(publishedPosts.get("0-10"));
+        assertNotNull(allTags.get("allTags"));
+        verifyNoInteractions(blogPostRepository);
+    }
+
+    @Test
+    void postChanged_WhenPostPublished_ShouldEvictLaterPagesAndFixEarlierTotals() {
+        // Given
+        postAtPosition(12);
+        when(blogPostRepository.countByStatus(BlogPost.PostStatus.PUBLISHED)).thenReturn(31L);
+
+        // When
+        invalidator.postChanged(
+                snapshot("post", BlogPost.PostStatus.DRAFT, Set.of("java")),
+                snapshot("post", BlogPost.PostStatus.PUBLISHED, Set.of("java")));
+
+        // Then
+        Cache.ValueWrapper firstPage = publishedPosts.get("0-10");
+        assertNotNull(firstPage);
+        assertEquals(31L, ((Page<?>) firstPage.get()).getTotalElements());
+        assertNull(publishedPosts.get("1-10"));
+        assertNull(publishedPosts.get("2-10"));
+        assertNull(allTags.get("allTags"));
+    }
+
+    @Test
+    void postChanged_WhenPublishedPostDeleted_ShouldEvictFromItsPageOnward() {
+        // Given
+        when(blogPostRepository.countByStatusAndCreatedAtAfter(BlogPost.PostStatus.PUBLISHED, createdAt)).thenReturn(25L);
+        when(blogPostRepository.countByStatusAndCreatedAtGreaterThanEqual(BlogPost.PostStatus.PUBLISHED, createdAt)).thenReturn(25L);
+        when(blogPostRepository.countByStatus(BlogPost.PostStatus.PUBLISHED)).thenReturn(29L);
+
+        // When
+        invalidator.postChanged(snapshot("post", BlogPost.PostStatus.PUBLISHED, Set.of("java")), null);
+
+        // Then
+        assertNotNull(publishedPosts.get("0-10"));
+        assertNotNull(publishedPosts.get("1-10"));
+        assertNull(publishedPosts.get("2-10"));
+        assertNull(postBySlug.get("post"));
+        assertNull(allTags.get("allTags"));
+    }
+}
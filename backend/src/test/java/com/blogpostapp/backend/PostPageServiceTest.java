@@ -0,0 +1,116 @@
+package com.blogpostapp.backend;
+
+import com.blogpostapp.backend.config.PostPageProperties;
+import com.blogpostapp.backend.dto.BlogPostDto;
+import com.blogpostapp.backend.dto.CommentDto;
+import com.blogpostapp.backend.dto.CursorSlice;
+import com.blogpostapp.backend.dto.PostPageDto;
+import com.blogpostapp.backend.exception.ResourceNotFoundException;
+import com.blogpostapp.backend.service.impl.PostPageServiceImpl;
+import com.blogpostapp.backend.service.interfaces.BlogPostService;
+import com.blogpostapp.backend.service.interfaces.CommentService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostPageServiceTest {
+
+    @Mock
+    private BlogPostService blogPostService;
+
+    @Mock
+    private CommentService commentService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PostPageServiceImpl postPageService;
+    private BlogPostDto post;
+    private CursorSlice<CommentDto> comments;
+
+    @BeforeEach
+    void setUp() {
+        PostPageProperties properties = new PostPageProperties();
+        properties.setDeadline(Duration.ofMillis(200));
+        properties.setComments(5);
+        meterRegistry = new SimpleMeterRegistry();
+        postPageService = new PostPageServiceImpl(blogPostService, commentService, properties, meterRegistry);
+
+        post = new BlogPostDto();
+        post.setId(1L);
+        post.setSlug("test-post");
+        comments = new CursorSlice<>(List.of(new CommentDto()), 5, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        postPageService.shutdown();
+    }
+
+    @Test
+    void getPostPage_ShouldCombineAllPartsAndCountAView() {
+        // Given
+        when(blogPostService.getPostBySlug("test-post")).thenReturn(Optional.of(post));
+        when(blogPostService.getAllTags()).thenReturn(List.of("java", "spring"));
+        when(commentService.getCommentsByPostId(1L, null, 5)).thenReturn(comments);
+        when(commentService.getCommentCountByPostId(1L)).thenReturn(7L);
+
+        // When
+        PostPageDto page = postPageService.getPostPage("test-post");
+
+        // Then
+        assertSame(post, page.getPost());
+        assertSame(comments, page.getComments());
+        assertEquals(7L, page.getCommentCount());
+        assertEquals(List.of("java", "spring"), page.getTags());
+        assertTrue(page.getUnavailable().isEmpty());
+        verify(blogPostService).incrementViewCount(1L);
+    }
+
+    @Test
+    void getPostPage_ShouldLeaveOutPartsThatFailOrMissTheDeadline() {
+        // Given
+        when(blogPostService.getPostBySlug("test-post")).thenReturn(Optional.of(post));
+        when(blogPostService.getAllTags()).thenAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return List.of("java");
+        });
+        when(commentService.getCommentsByPostId(1L, null, 5)).thenReturn(comments);
+        when(commentService.getCommentCountByPostId(1L)).thenThrow(new IllegalStateException("Database unavailable"));
+
+        // When
+        long start = System.nanoTime();
+        PostPageDto page = postPageService.getPostPage("test-post");
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        // Then
+        assertTrue(elapsedMs < 2_000, "waited " + elapsedMs + " ms");
+        assertSame(comments, page.getComments());
+        assertNull(page.getCommentCount());
+        assertNull(page.getTags());
+        assertEquals(List.of("commentCount", "tags"), page.getUnavailable());
+        assertEquals(2, meterRegistry.get("post.page.degraded").counters().size());
+    }
+
+    @Test
+    void getPostPage_WhenSlugUnknown_ShouldThrowResourceNotFoundException() {
+        // Given
+        when(blogPostService.getPostBySlug("missing")).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> postPageService.getPostPage("missing"));
+        verify(commentService, never()).getCommentCountByPostId(anyLong());
+        verify(blogPostService, never()).incrementViewCount(anyLong());
+    }
+}
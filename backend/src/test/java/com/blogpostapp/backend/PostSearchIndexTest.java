@@ -0,0 +1,251 @@
+package com.blogpostapp.backend;
+
+import com.blogpostapp.backend.entity.BlogPost;
+import com.blogpostapp.backend.exception.BadRequestException;
+import com.blogpostapp.backend.search.FacetCount;
+import com.blogpostapp.backend.search.IndexedPost;
+import com.blogpostapp.backend.search.PostSearchIndex;
+import com.blogpostapp.backend.search.SearchHits;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostSearchIndexTest {
+
+    private PostSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = SearchFixtures.index();
+        index.rebuild(List.of(
+                document(1L, "Getting started with Spring Boot", "A short introduction to building services.", Set.of("spring")),
+                document(2L, "Caching strategies", "Spring caches can be backed by Caffeine for bounded memory.", Set.of("caching")),
+                document(3L, "Testing React components", "Components are tested with a virtual DOM.", Set.of("react"))));
+    }
+
+    private IndexedPost document(Long id, String title, String content, Set<String> tags) {
+        BlogPost post = SearchFixtures.post(id, title);
+        post.setContent(content);
+        post.setAuthor("Author " + id);
+        post.setCreatedAt(LocalDateTime.of(2024, 1, id.intValue(), 12, 0));
+        post.setPublishedAt(post.getCreatedAt());
+        return IndexedPost.of(post, tags);
+    }
+
+    @Test
+    void search_ShouldRankTitleMatchesAboveContentMatches() {
+        // When
+        SearchHits hits = index.search("spring", 0, 10);
+
+        // Then
+        assertEquals(2, hits.total());
+        assertEquals(List.of(1L, 2L), hits.postIds());
+    }
+
+    @Test
+    void search_ShouldRequireAllTermsAndMatchStemmedForms() {
+        // When
+        SearchHits both = index.search("spring caching", 0, 10);
+        SearchHits stemmed = index.search("component tests", 0, 10);
+
+        // Then
+        assertEquals(List.of(2L), both.postIds());
+        assertEquals(List.of(3L), stemmed.postIds());
+    }
+
+    @Test
+    void search_ShouldPageThroughRankedHits() {
+        // When
+        SearchHits secondPage = index.search("spring", 1, 1);
+
+        // Then
+        assertEquals(2, secondPage.total());
+        assertEquals(List.of(2L), secondPage.postIds());
+    }
+
+    @Test
+    void search_WithSnippets_ShouldHighlightMatchesInEscapedFragment() {
+        // Given
+        String content = "Intro. ".repeat(200) + "Configure <b>Caffeine</b> caches for spring services. " + "Outro. ".repeat(200);
+        index.put(4L, document(4L, "Bounded memory", content, Set.of()));
+
+        // When
+        SearchHits hits = index.search("caffeine", 0, 10, 2);
+
+        // Then
+        List<String> snippets = hits.hits().stream().filter(hit -> hit.postId() == 4L).findFirst().orElseThrow().snippets();
+        assertEquals(1, snippets.size());
+        String snippet = snippets.get(0);
+        assertTrue(snippet.contains("&lt;b&gt;<mark>Caffeine</mark>&lt;/b&gt;"));
+        assertTrue(snippet.startsWith("…") && snippet.endsWith("…"));
+        assertTrue(snippet.length() < 250);
+    }
+
+    @Test
+    void search_WithFacets_ShouldCountTagsAuthorsAndMonthsOfAllMatches() {
+        // When
+        SearchHits hits = index.search("spring", 0, 1, 0, 10);
+
+        // Then
+        assertEquals(1, hits.hits().size());
+        assertEquals(List.of(new FacetCount("caching", 1), new FacetCount("spring", 1)), hits.facets().get("tags"));
+        assertEquals(2, hits.facets().get("authors").size());
+        assertEquals(List.of(new FacetCount("2024-01", 2)), hits.facets().get("months"));
+    }
+
+    @Test
+    void search_WithFacets_ShouldNotCarryCountsOverToTheNextQuery() {
+        // Given
+        index.search("spring", 0, 10, 0, 10);
+
+        // When
+        SearchHits hits = index.search("react", 0, 10, 0, 10);
+
+        // Then
+        assertEquals(List.of(new FacetCount("react", 1)), hits.facets().get("tags"));
+        assertEquals(List.of(new FacetCount("Author 3", 1)), hits.facets().get("authors"));
+        assertEquals(List.of(new FacetCount("2024-01", 1)), hits.facets().get("months"));
+    }
+
+    @Test
+    void search_WithMisspelledTerms_ShouldFallBackToCorrectedTerms() {
+        // When
+        SearchHits hits = index.search("Sprng introductin", 0, 10, 1);
+
+        // Then
+        assertEquals(List.of(1L), hits.postIds());
+        assertEquals("spring introduction", hits.correctedQuery());
+        assertTrue(hits.hits().get(0).snippets().get(0).contains("<mark>introduction</mark>"));
+    }
+
+    @Test
+    void search_WithExactMatches_ShouldNotCorrectQuery() {
+        // When
+        SearchHits hits = index.search("caffeine", 0, 10);
+
+        // Then
+        assertEquals(List.of(2L), hits.postIds());
+        assertNull(hits.correctedQuery());
+    }
+
+    @Test
+    void search_WithBooleanOperators_ShouldCombineTerms() {
+        // When
+        SearchHits either = index.search("caffeine OR react", 0, 10);
+        SearchHits excluded = index.search("spring NOT caching", 0, 10);
+        SearchHits grouped = index.search("(react OR caffeine) -dom", 0, 10);
+
+        // Then
+        assertEquals(List.of(3L, 2L), either.postIds());
+        assertEquals(List.of(1L), excluded.postIds());
+        assertEquals(List.of(2L), grouped.postIds());
+    }
+
+    @Test
+    void search_WithPhrase_ShouldRequireAdjacentWords() {
+        // When
+        SearchHits adjacent = index.search("\"spring boot\"", 0, 10);
+        SearchHits apart = index.search("\"caches caffeine\"", 0, 10);
+        SearchHits hyphenated = index.search("virtual-dom", 0, 10);
+
+        // Then
+        assertEquals(List.of(1L), adjacent.postIds());
+        assertTrue(apart.postIds().isEmpty());
+        assertEquals(List.of(3L), hyphenated.postIds());
+    }
+
+    @Test
+    void search_WithFieldFilters_ShouldMatchTagsAuthorsAndDates() {
+        // When
+        SearchHits tagged = index.search("spring tag:Caching", 0, 10);
+        SearchHits byAuthor = index.search("author:\"author 3\"", 0, 10);
+        SearchHits published = index.search("spring published:2024-01-02..", 0, 10);
+        SearchHits day = index.search("published:2024-01-01", 0, 10);
+
+        // Then
+        assertEquals(List.of(2L), tagged.postIds());
+        assertEquals(List.of(3L), byAuthor.postIds());
+        assertEquals(List.of(2L), published.postIds());
+        assertEquals(List.of(1L), day.postIds());
+    }
+
+    @Test
+    void search_WithInvalidDate_ShouldThrow() {
+        // When & Then
+        assertThrows(BadRequestException.class, () -> index.search("published:2024-13", 0, 10));
+    }
+
+    @Test
+    void put_WithNullDocument_ShouldRemovePostFromResults() {
+        // When
+        index.put(1L, null);
+
+        // Then
+        assertEquals(List.of(2L), index.search("spring", 0, 10).postIds());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void put_WhenPostChanges_ShouldReplaceItsTerms() {
+        // When
+        index.put(3L, document(3L, "Testing Spring services", "Slices and mocks.", Set.of("testing")));
+
+        // Then
+        assertTrue(index.search("react", 0, 10).postIds().isEmpty());
+        assertEquals(3, index.search("spring", 0, 10).total());
+    }
+
+    @Test
+    void postChanged_ShouldOnlyBeSearchableOnceTheTransactionCommits() {
+        // Given
+        BlogPost post = new BlogPost("Kotlin coroutines", "Structured concurrency with coroutines.", "Author 4");
+        post.setId(4L);
+        post.setStatus(BlogPost.PostStatus.PUBLISHED);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            index.postChanged(4L, post);
+
+            // Then
+            assertTrue(index.search("coroutines", 0, 10).postIds().isEmpty());
+            assertEquals(3, index.size());
+
+            // When
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertTrue(TransactionSynchronizationManager.getResourceMap().isEmpty());
+        assertEquals(4, index.size());
+        assertEquals(List.of(4L), index.search("coroutines", 0, 10).postIds());
+    }
+
+    @Test
+    void postChanged_WhenTransactionRollsBack_ShouldLeaveIndexUntouched() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            index.postChanged(1L, null);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertTrue(TransactionSynchronizationManager.getResourceMap().isEmpty());
+        assertEquals(List.of(1L, 2L), index.search("spring", 0, 10).postIds());
+    }
+}
@@ -0,0 +1,78 @@
+package com.blogpostapp.backend;
+
+import com.blogpostapp.backend.entity.BlogPost;
+import com.blogpostapp.backend.search.IndexedPost;
+import com.blogpostapp.backend.search.PostSearchIndex;
+import com.blogpostapp.backend.search.RelatedPostsIndex;
+import com.blogpostapp.backend.search.RelatedPostsIndex.RelatedPost;
+import com.blogpostapp.backend.search.SearchProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RelatedPostsIndexTest {
+
+    private PostSearchIndex searchIndex;
+    private RelatedPostsIndex relatedPostsIndex;
+
+    @BeforeEach
+    void setUp() {
+        SearchProperties properties = new SearchProperties();
+        searchIndex = new PostSearchIndex(properties);
+        relatedPostsIndex = new RelatedPostsIndex(searchIndex, properties);
+        searchIndex.rebuild(List.of(
+                document(1L, "Spring Boot Basics", "Building a REST service with Spring Boot, controllers and repositories", Set.of("spring", "java")),
+                document(2L, "Spring Boot Testing", "Testing a REST service with Spring Boot, mock controllers and repositories", Set.of("spring", "testing")),
+                document(3L, "React Hooks", "Managing component state in React with hooks and effects", Set.of("react", "javascript")),
+                document(4L, "Java Records", "Modelling immutable data with Java records", Set.of("java"))));
+    }
+
+    private IndexedPost document(Long id, String title, String content, Set<String> tags) {
+        BlogPost post = SearchFixtures.post(id, title);
+        post.setContent(content);
+        return IndexedPost.of(post, tags);
+    }
+
+    private List<Long> ids(List<RelatedPost> related) {
+        return related.stream().map(RelatedPost::postId).toList();
+    }
+
+    @Test
+    void related_ShouldRankSimilarPostsFirst() {
+        // When
+        List<RelatedPost> related = relatedPostsIndex.related(1L, 5);
+
+        // Then
+        assertEquals(List.of(2L, 4L), ids(related));
+        assertEquals("post-2", related.get(0).slug());
+        assertTrue(related.get(0).score() > related.get(1).score());
+        assertTrue(relatedPostsIndex.related(3L, 5).isEmpty());
+        assertNull(relatedPostsIndex.related(99L, 5));
+    }
+
+    @Test
+    void related_ShouldFollowIncrementalChanges() {
+        // When
+        searchIndex.put(5L, document(5L, "React Hooks in Depth", "Custom hooks for component state and effects in React", Set.of("react")));
+        searchIndex.put(2L, null);
+
+        // Then
+        assertEquals(List.of(5L), ids(relatedPostsIndex.related(3L, 5)));
+        assertEquals(List.of(3L), ids(relatedPostsIndex.related(5L, 5)));
+        assertEquals(List.of(4L), ids(relatedPostsIndex.related(1L, 5)));
+        assertNull(relatedPostsIndex.related(2L, 5));
+    }
+
+    @Test
+    void related_ShouldHonourLimit() {
+        // When
+        List<RelatedPost> related = relatedPostsIndex.related(1L, 1);
+
+        // Then
+        assertEquals(List.of(2L), ids(related));
+    }
+}
@@ -0,0 +1,33 @@
+package com.blogpostapp.backend;
+
+import com.blogpostapp.backend.entity.BlogPost;
+import com.blogpostapp.backend.search.PostSearchIndex;
+import com.blogpostapp.backend.search.SearchProperties;
+
+// Shared setup for the tests of the search index and the in-memory views that listen to it
+final class SearchFixtures {
+
+    private SearchFixtures() {
+    }
+
+    static PostSearchIndex index() {
+        return new PostSearchIndex(new SearchProperties());
+    }
+
+    static BlogPost post(Long id) {
+        return post(id, "Post number " + id);
+    }
+
+    // A published post with placeholder content and author, for tests to adjust. The slug is set
+    // after the title, which would otherwise derive it
+    static BlogPost post(Long id, String title) {
+        BlogPost post = new BlogPost();
+        post.setId(id);
+        post.setTitle(title);
+        post.setSlug("post-" + id);
+        post.setContent("Some content for post " + id);
+        post.setAuthor("Jane Smith");
+        post.setStatus(BlogPost.PostStatus.PUBLISHED);
+        return post;
+    }
+}
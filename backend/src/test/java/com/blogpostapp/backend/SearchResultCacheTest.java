@@ -0,0 +1,124 @@
+package com.blogpostapp.backend;
+
+import com.blogpostapp.backend.entity.BlogPost;
+import com.blogpostapp.backend.search.IndexedPost;
+import com.blogpostapp.backend.search.PostSearchIndex;
+import com.blogpostapp.backend.search.SearchHits;
+import com.blogpostapp.backend.search.SearchProperties;
+import com.blogpostapp.backend.search.SearchResultCache;
+import com.blogpostapp.backend.search.SearchResultCache.PopularQuery;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchResultCacheTest {
+
+    private PostSearchIndex index;
+    private SimpleMeterRegistry meterRegistry;
+    private SearchResultCache searchResultCache;
+
+    @BeforeEach
+    void setUp() {
+        SearchProperties searchProperties = new SearchProperties();
+        searchProperties.getCache().setWindow(20);
+        index = new PostSearchIndex(searchProperties);
+        index.rebuild(List.of(
+                document(1L, "Getting started with Spring Boot", Set.of("spring")),
+                document(2L, "Spring caching", Set.of("caching")),
+                document(3L, "Testing React components", Set.of("react"))));
+        meterRegistry = new SimpleMeterRegistry();
+        searchResultCache = new SearchResultCache(index, searchProperties, meterRegistry);
+    }
+
+    private IndexedPost document(Long id, String title, Set<String> tags) {
+        BlogPost post = SearchFixtures.post(id, title);
+        post.setAuthor("Author " + id);
+        post.setCreatedAt(LocalDateTime.of(2024, 1, id.intValue(), 12, 0));
+        post.setPublishedAt(post.getCreatedAt());
+        return IndexedPost.of(post, tags);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("search.cache.requests").tag("result", result).counter().count();
+    }
+
+    @Test
+    void search_ShouldServeEquivalentQueriesAndLaterPagesFromOneRanking() {
+        // When
+        SearchHits first = searchResultCache.search("Spring", 0, 1, 0, 0);
+        SearchHits second = searchResultCache.search("  spring ", 1, 1, 0, 0);
+
+        // Then
+        assertEquals(List.of(1L), first.postIds());
+        assertEquals(List.of(2L), second.postIds());
+        assertEquals(2, second.total());
+        assertEquals(1.0, requests("miss"));
+        assertEquals(1.0, requests("hit"));
+    }
+
+    @Test
+    void search_AfterIndexChange_ShouldRankAgain() {
+        // Given
+        searchResultCache.search("spring", 0, 10, 0, 0);
+
+        // When
+        index.put(3L, document(3L, "Testing Spring components", Set.of("react")));
+        SearchHits hits = searchResultCache.search("spring", 0, 10, 0, 0);
+
+        // Then
+        assertEquals(3, hits.total());
+        assertEquals(2.0, requests("miss"));
+    }
+
+    @Test
+    void search_BeyondWindow_ShouldBypassCache() {
+        // When
+        SearchHits hits = searchResultCache.search("spring", 20, 10, 0, 0);
+
+        // Then
+        assertTrue(hits.hits().isEmpty());
+        assertEquals(2, hits.total());
+        assertEquals(1.0, requests("bypass"));
+    }
+
+    @Test
+    void popularQueries_ShouldRankNormalizedQueriesByFrequency() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            searchResultCache.search("Spring", 0, 10, 0, 0);
+        }
+        searchResultCache.search("react OR spring", 0, 10, 0, 0);
+        searchResultCache.search("SPRING", 0, 10, 0, 0);
+
+        // When
+        List<PopularQuery> popular = searchResultCache.popularQueries(10);
+
+        // Then
+        assertEquals(List.of(new PopularQuery("spring", 4, 0), new PopularQuery("(react OR spring)", 1, 0)), popular);
+        assertEquals(5, searchResultCache.searchCount());
+    }
+
+    @Test
+    void warm_WithStemmableQuery_ShouldCacheTheSameHitsAsAColdSearch() {
+        // Given
+        index.put(4L, document(4L, "Speeding up React", Set.of("react")));
+        SearchHits cold = index.search("speeding", 0, 10, 0, 0);
+        searchResultCache.search("speeding", 20, 10, 0, 0);
+
+        // When
+        int warmed = searchResultCache.warm(1);
+        SearchHits hits = searchResultCache.search("speeding", 0, 10, 0, 0);
+
+        // Then
+        assertEquals(1, warmed);
+        assertEquals(List.of(4L), cold.postIds());
+        assertEquals(cold.postIds(), hits.postIds());
+        assertEquals(1.0, requests("hit"));
+    }
+}
@@ -0,0 +1,86 @@
+package com.blogpostapp.backend;
+
+import com.blogpostapp.backend.entity.BlogPost;
+import com.blogpostapp.backend.search.IndexedPost;
+import com.blogpostapp.backend.search.PostSearchIndex;
+import com.blogpostapp.backend.search.SuggestionIndex;
+import com.blogpostapp.backend.search.SuggestionIndex.Suggestion;
+import com.blogpostapp.backend.search.SuggestionIndex.Type;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SuggestionIndexTest {
+
+    private PostSearchIndex searchIndex;
+    private SuggestionIndex suggestionIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = SearchFixtures.index();
+        suggestionIndex = new SuggestionIndex(searchIndex);
+        searchIndex.rebuild(List.of(
+                document(1L, "Spring Boot Basics", "Jane Smith", 5L, Set.of("spring", "java")),
+                document(2L, "Spring Security in Depth", "John Doe", 50L, Set.of("spring", "security")),
+                document(3L, "Speeding up React", "Jane Smith", 0L, Set.of("react"))));
+    }
+
+    private IndexedPost document(Long id, String title, String author, Long views, Set<String> tags) {
+        BlogPost post = SearchFixtures.post(id, title);
+        post.setAuthor(author);
+        post.setViewCount(views);
+        return IndexedPost.of(post, tags);
+    }
+
+    private List<String> texts(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::text).toList();
+    }
+
+    @Test
+    void suggest_ShouldRankTitlesByViews() {
+        // When
+        List<Suggestion> suggestions = suggestionIndex.suggest("Sp", Type.TITLE, 5);
+
+        // Then
+        assertEquals(List.of("Spring Security in Depth", "Spring Boot Basics", "Speeding up React"), texts(suggestions));
+        assertEquals("post-2", suggestions.get(0).slug());
+    }
+
+    @Test
+    void suggest_ShouldMatchLaterWordsOfTitles() {
+        // When
+        List<Suggestion> suggestions = suggestionIndex.suggest("boot", Type.TITLE, 5);
+
+        // Then
+        assertEquals(List.of("Spring Boot Basics"), texts(suggestions));
+    }
+
+    @Test
+    void suggest_ShouldWeightTagsAndAuthorsByTheirPosts() {
+        // When
+        List<Suggestion> tags = suggestionIndex.suggest("s", Type.TAG, 5);
+        List<Suggestion> authors = suggestionIndex.suggest("j", Type.AUTHOR, 5);
+
+        // Then
+        assertEquals(List.of("spring", "security"), texts(tags));
+        assertEquals(List.of("John Doe", "Jane Smith"), texts(authors));
+    }
+
+    @Test
+    void suggest_ShouldFollowIncrementalChanges() {
+        // When
+        searchIndex.put(2L, null);
+        searchIndex.put(4L, document(4L, "Securing APIs", "Ana Lopez", 1L, Set.of("security")));
+
+        // Then
+        assertEquals(List.of("Spring Boot Basics"), texts(suggestionIndex.suggest("spring", Type.TITLE, 5)));
+        assertEquals(List.of("Securing APIs"), texts(suggestionIndex.suggest("sec", Type.TITLE, 5)));
+        assertEquals(List.of("spring", "security"), texts(suggestionIndex.suggest("s", Type.TAG, 5)));
+        assertTrue(suggestionIndex.suggest("john", Type.AUTHOR, 5).isEmpty());
+        assertEquals(List.of("Ana Lopez"), texts(suggestionIndex.suggest("ána", Type.AUTHOR, 5)));
+    }
+}
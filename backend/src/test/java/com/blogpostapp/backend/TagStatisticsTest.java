@@ -0,0 +1,96 @@
+package com.blogpostapp.backend;
+
+import com.blogpostapp.backend.entity.BlogPost;
+import com.blogpostapp.backend.search.IndexedPost;
+import com.blogpostapp.backend.search.PostSearchIndex;
+import com.blogpostapp.backend.search.TagStatistics;
+import com.blogpostapp.backend.search.TagStatistics.TagStats;
+import com.blogpostapp.backend.service.interfaces.ViewsFlushedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TagStatisticsTest {
+
+    private static final LocalDateTime JANUARY = LocalDateTime.of(2024, 1, 15, 10, 0);
+    private static final LocalDateTime MARCH = LocalDateTime.of(2024, 3, 15, 10, 0);
+
+    private PostSearchIndex searchIndex;
+    private TagStatistics tagStatistics;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = SearchFixtures.index();
+        tagStatistics = new TagStatistics(searchIndex);
+        searchIndex.rebuild(List.of(
+                document(1L, 10L, JANUARY, Set.of("spring", "java")),
+                document(2L, 5L, MARCH, Set.of("spring"))));
+    }
+
+    private IndexedPost document(Long id, Long views, LocalDateTime publishedAt, Set<String> tags) {
+        BlogPost post = SearchFixtures.post(id);
+        post.setViewCount(views);
+        post.setPublishedAt(publishedAt);
+        return IndexedPost.of(post, tags);
+    }
+
+    private Map<String, TagStats> byTag() {
+        return tagStatistics.all().stream().collect(Collectors.toMap(TagStats::tag, Function.identity()));
+    }
+
+    @Test
+    void all_ShouldCountPostsViewsAndLatestUse() {
+        // When
+        Map<String, TagStats> stats = byTag();
+
+        // Then
+        assertEquals(new TagStats("spring", 2, 15, MARCH), stats.get("spring"));
+        assertEquals(new TagStats("java", 1, 10, JANUARY), stats.get("java"));
+    }
+
+    @Test
+    void all_ShouldFollowIncrementalChanges() {
+        // When
+        searchIndex.put(2L, null);
+        searchIndex.put(1L, document(1L, 12L, JANUARY, Set.of("spring", "kotlin")));
+
+        // Then
+        Map<String, TagStats> stats = byTag();
+        assertEquals(new TagStats("spring", 1, 10, JANUARY), stats.get("spring"));
+        assertEquals(new TagStats("kotlin", 1, 10, JANUARY), stats.get("kotlin"));
+        assertFalse(stats.containsKey("java"));
+    }
+
+    @Test
+    void viewsFlushed_ShouldAddViewsToEveryTagOfThePost() {
+        // When
+        tagStatistics.viewsFlushed(new ViewsFlushedEvent(Map.of(1L, 3L, 99L, 7L)));
+
+        // Then
+        Map<String, TagStats> stats = byTag();
+        assertEquals(18, stats.get("spring").views());
+        assertEquals(13, stats.get("java").views());
+    }
+
+    @Test
+    void postIndexed_ShouldKeepFlushedViewsWhenAPostIsReindexed() {
+        // Given
+        tagStatistics.viewsFlushed(new ViewsFlushedEvent(Map.of(1L, 3L)));
+
+        // When
+        searchIndex.put(1L, document(1L, 10L, JANUARY, Set.of("spring", "java")));
+
+        // Then
+        Map<String, TagStats> stats = byTag();
+        assertEquals(18, stats.get("spring").views());
+        assertEquals(13, stats.get("java").views());
+    }
+}
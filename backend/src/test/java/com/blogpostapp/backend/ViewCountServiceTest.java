@@ -0,0 +1,141 @@
+package com.blogpostapp.backend;
+
+import com.blogpostapp.backend.service.impl.ViewCountServiceImpl;
+import com.blogpostapp.backend.service.interfaces.ViewsFlushedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ViewCountServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ViewCountServiceImpl viewCountService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        viewCountService = new ViewCountServiceImpl(jdbcTemplate, meterRegistry, eventPublisher);
+    }
+
+    @Test
+    void recordView_ShouldBufferWithoutWriting() {
+        // When
+        viewCountService.recordView(1L);
+        viewCountService.recordView(1L);
+        viewCountService.recordView(2L);
+
+        // Then
+        assertEquals(2L, viewCountService.getPendingViews(1L));
+        assertEquals(1L, viewCountService.getPendingViews(2L));
+        assertEquals(3.0, meterRegistry.get("blog.viewcount.pending").gauge().value());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_ShouldWriteOneBatchedDeltaPerPost() {
+        // Given
+        viewCountService.recordView(1L);
+        viewCountService.recordView(1L);
+        viewCountService.recordView(2L);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1, 1});
+
+        // When
+        int flushed = viewCountService.flush();
+
+        // Then
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("view_count = COALESCE(view_count, 0) + ?"), captor.capture());
+        assertEquals(2, flushed);
+        assertEquals(2, captor.getValue().size());
+        assertTrue(captor.getValue().stream().anyMatch(row -> row[0].equals(2L) && row[1].equals(1L)));
+        assertEquals(0L, viewCountService.getPendingViews(1L));
+        assertEquals(0.0, meterRegistry.get("blog.viewcount.pending").gauge().value());
+        assertEquals(1, meterRegistry.get("blog.viewcount.flush").timer().count());
+        verify(eventPublisher).publishEvent(new ViewsFlushedEvent(Map.of(1L, 2L, 2L, 1L)));
+    }
+
+    @Test
+    void flush_WhenPostWasDeleted_ShouldLeaveItsViewsOutOfTheEvent() {
+        // Given
+        viewCountService.recordView(1L);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{0});
+
+        // When
+        int flushed = viewCountService.flush();
+
+        // Then
+        assertEquals(0, flushed);
+        assertEquals(0L, viewCountService.getPendingViews(1L));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void flush_WhenNothingPending_ShouldNotHitDatabase() {
+        // When
+        int flushed = viewCountService.flush();
+
+        // Then
+        assertEquals(0, flushed);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_WhenDatabaseFails_ShouldKeepDeltasForRetry() {
+        // Given
+        viewCountService.recordView(1L);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new DataAccessResourceFailureException("down"));
+
+        // When
+        int flushed = viewCountService.flush();
+
+        // Then
+        assertEquals(0, flushed);
+        assertEquals(1L, viewCountService.getPendingViews(1L));
+    }
+
+    @Test
+    void recordView_UnderConcurrency_ShouldNotLoseIncrements() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    viewCountService.recordView(1L);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // Then
+        assertEquals(8000L, viewCountService.getPendingViews(1L));
+    }
+}
@@ -91,7 +91,7 @@ export const BlogPostCard: React.FC<BlogPostCardProps> = ({
           {/* Content Preview */}
           {!post.summary && (
             <p className="post-excerpt text-muted mb-3">
-              {truncateText(post.content.replace(/<[^>]*>/g, ''), compact ? 100 : 150)}
+              {truncateText((post.excerpt ?? post.content ?? '').replace(/<[^>]*>/g, ''), compact ? 100 : 150)}
             </p>
           )}
 
@@ -89,7 +89,7 @@ const ManagePostsPage: React.FC = () => {
     return posts.content.filter(post => {
       const matchesSearch = !searchQuery || 
         post.title.toLowerCase().includes(searchQuery.toLowerCase()) ||
-        post.content.toLowerCase().includes(searchQuery.toLowerCase()) ||
+        (post.summary ?? post.excerpt ?? '').toLowerCase().includes(searchQuery.toLowerCase()) ||
         post.author.toLowerCase().includes(searchQuery.toLowerCase());
 
       const matchesStatus = statusFilter === 'ALL' || post.status === statusFilter;
@@ -314,7 +314,7 @@ const ManagePostsPage: React.FC = () => {
                         </p>
                       ) : (
                         <p className="text-secondary text-sm line-clamp-2 mb-3">
-                          {post.content.replace(/<[^>]*>/g, '').substring(0, 150)}...
+                          {(post.excerpt ?? '').replace(/<[^>]*>/g, '').substring(0, 150)}...
                         </p>
                       )}
 
@@ -167,7 +167,7 @@ const PostDetailPage: React.FC = () => {
 
               {/* Content */}
               <div className="prose prose-lg max-w-none mb-8">
-                <ReactMarkdown>{post.content}</ReactMarkdown>
+                <ReactMarkdown>{post.content ?? ''}</ReactMarkdown>
               </div>
 
               {/* Tags */}
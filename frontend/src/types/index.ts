@@ -8,9 +8,11 @@ export interface BlogPost {
   id: number;
   title: string;
   slug: string;
-  content: string;
+  // Only the detail endpoints return the full content; listings return an excerpt instead
+  content?: string;
   author: string;
   summary?: string;
+  excerpt?: string;
   status: PostStatus;
   tags: string[];
   viewCount: number;